@@ -0,0 +1,86 @@
+package dev.jackraidenph.logicevaluator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Expressions the benchmarks are parameterized with. Every shape mentions all of its operands, and random
+ * expressions are seeded by the operand count, so a given parameter pair always measures the same function.
+ */
+public class Functions {
+    private static final String[] OPERATORS = {"*", "+", "^", "->"};
+
+    public enum Shape {
+        /**
+         * A balanced tree of random operators over every operand, each leaf negated at random.
+         */
+        RANDOM,
+        /**
+         * The XOR of all operands: no two minterms merge, so every minimizer sees its worst case.
+         */
+        PARITY,
+        /**
+         * The carry out of a ripple adder over operand pairs, with a carry in when the count is odd.
+         * It generalizes the {@code SUM_CARRY} preset.
+         */
+        CARRY
+    }
+
+    public static String expression(Shape shape, int variables) {
+        if (variables < 1 || variables > 26)
+            throw new IllegalArgumentException("Operand count must be within 1..26: " + variables);
+        return switch (shape) {
+            case RANDOM -> random(variables);
+            case PARITY -> String.join("^", names(variables));
+            case CARRY -> carry(variables);
+        };
+    }
+
+    private static List<String> names(int variables) {
+        List<String> names = new ArrayList<>();
+        for (int index = 0; index < variables; index++) {
+            names.add(String.valueOf((char) ('a' + index)));
+        }
+        return names;
+    }
+
+    private static String random(int variables) {
+        Random random = new Random(variables);
+        List<String> level = new ArrayList<>();
+        for (int repeat = 0; repeat < 2; repeat++) {
+            for (String name : names(variables)) {
+                level.add(random.nextBoolean() ? "!" + name : name);
+            }
+        }
+        Collections.shuffle(level, random);
+
+        while (level.size() > 1) {
+            List<String> next = new ArrayList<>();
+            for (int index = 0; index + 1 < level.size(); index += 2) {
+                String operator = OPERATORS[random.nextInt(OPERATORS.length)];
+                next.add("(" + level.get(index) + operator + level.get(index + 1) + ")");
+            }
+            if (level.size() % 2 != 0) {
+                next.add(level.get(level.size() - 1));
+            }
+            level = next;
+        }
+        return level.get(0);
+    }
+
+    private static String carry(int variables) {
+        List<String> names = names(variables);
+        String carry = variables % 2 != 0 ? names.get(0) : null;
+        for (int index = variables % 2; index + 1 < variables; index += 2) {
+            String first = names.get(index);
+            String second = names.get(index + 1);
+            String generate = "(" + first + "*" + second + ")";
+            carry = carry == null
+                    ? generate
+                    : "(" + generate + "+(" + carry + "*(" + first + "^" + second + ")))";
+        }
+        return carry;
+    }
+}
@@ -0,0 +1,40 @@
+package dev.jackraidenph.logicevaluator.benchmarks;
+
+import dev.jackraidenph.logicevaluator.logic.Cube;
+import dev.jackraidenph.logicevaluator.logic.KarnaughMap;
+import dev.jackraidenph.logicevaluator.logic.TruthTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KarnaughMapBenchmark {
+    @Param({"4", "6", "8"})
+    public int variables;
+
+    @Param({"RANDOM", "PARITY", "CARRY"})
+    public Functions.Shape shape;
+
+    private KarnaughMap map;
+
+    @Setup
+    public void setUp() {
+        map = new KarnaughMap(new TruthTable(Functions.expression(shape, variables)));
+    }
+
+    @Benchmark
+    public List<Cube> traverseOnes() {
+        return map.traverseKMap(true);
+    }
+
+    @Benchmark
+    public List<Cube> traverseZeros() {
+        return map.traverseKMap(false);
+    }
+}
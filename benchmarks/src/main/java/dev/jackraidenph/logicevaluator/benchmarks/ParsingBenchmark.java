@@ -0,0 +1,33 @@
+package dev.jackraidenph.logicevaluator.benchmarks;
+
+import dev.jackraidenph.logicevaluator.utility.ParsingUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParsingBenchmark {
+    @Param({"4", "8", "12", "16"})
+    public int variables;
+
+    @Param({"RANDOM", "PARITY", "CARRY"})
+    public Functions.Shape shape;
+
+    private String expression;
+
+    @Setup
+    public void setUp() {
+        expression = Functions.expression(shape, variables);
+    }
+
+    @Benchmark
+    public List<String> infixToPostfix() {
+        return ParsingUtils.infixToPostfix(expression);
+    }
+}
@@ -0,0 +1,75 @@
+package dev.jackraidenph.logicevaluator.benchmarks;
+
+import dev.jackraidenph.logicevaluator.logic.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * The reductions the application runs when a preset is picked, most of them on partial tables.
+ * A table buffers its reductions, and building a fresh one per invocation would cost about as much as these
+ * microsecond reductions plus JMH's own per-invocation bookkeeping. So they run on the unbuffered
+ * {@link SparseFunction} of the preset, which treats the rows a partial table leaves out as don't-cares just
+ * like the table does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PresetBenchmark {
+    @Param({"SUM_VAL", "SUM_CARRY", "8421E9O8", "8421E9O4", "8421E9O2", "8421E9O1",
+            "16SUBH4", "16SUBH3", "16SUBH2", "16SUBH1"})
+    public String preset;
+
+    private TruthTable table;
+    private SparseFunction function;
+    private long[] implicants;
+
+    @Setup
+    public void setUp() {
+        table = Presets.create(preset);
+        function = SparseFunction.of(table);
+        implicants = LongStream.concat(LongStream.of(function.getOnSet()), LongStream.of(function.getDontCares()))
+                .sorted().toArray();
+    }
+
+    @Benchmark
+    public String pdnf() {
+        return table.getPDNF();
+    }
+
+    @Benchmark
+    public String pcnf() {
+        return table.getPCNF();
+    }
+
+    /**
+     * The prime generation behind the shortened form.
+     */
+    @Benchmark
+    public List<Cube> primes() {
+        return PrimeGenerator.generate(implicants, table.getOperands().size());
+    }
+
+    @Benchmark
+    public List<Term> calculativeFdnf() {
+        return function.calculative(false);
+    }
+
+    /**
+     * Never consults the NPN cover cache, which would otherwise answer these small functions from a lookup.
+     */
+    @Benchmark
+    public List<Term> quineMcCluskey() {
+        return function.quineMcCluskey(false);
+    }
+
+    @Benchmark
+    public String karnaughFdnf() {
+        return new KarnaughMap(table).getKMapFDNF();
+    }
+}
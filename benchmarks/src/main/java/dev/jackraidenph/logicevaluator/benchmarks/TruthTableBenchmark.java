@@ -0,0 +1,79 @@
+package dev.jackraidenph.logicevaluator.benchmarks;
+
+import dev.jackraidenph.logicevaluator.logic.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Table construction and the forms derived from it. Reductions are buffered by the table they were
+ * computed on, so those benchmarks run on the unbuffered {@link SparseFunction} of the table instead of
+ * building a fresh table per invocation, which at four variables would mostly measure the setup.
+ * The principal forms are not buffered.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TruthTableBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Function {
+        @Param({"4", "8", "12"})
+        public int variables;
+
+        @Param({"RANDOM", "PARITY", "CARRY"})
+        public Functions.Shape shape;
+
+        private String expression;
+        private TruthTable table;
+        private SparseFunction function;
+        private long[] minterms;
+
+        @Setup
+        public void setUp() {
+            expression = Functions.expression(shape, variables);
+            table = new TruthTable(expression);
+            function = SparseFunction.of(table);
+            minterms = function.getOnSet();
+        }
+    }
+
+    @Benchmark
+    public TruthTable construct(Function function) {
+        return new TruthTable(function.expression);
+    }
+
+    @Benchmark
+    public String pdnf(Function function) {
+        return function.table.getPDNF();
+    }
+
+    @Benchmark
+    public String pcnf(Function function) {
+        return function.table.getPCNF();
+    }
+
+    /**
+     * The prime generation behind the shortened form.
+     */
+    @Benchmark
+    public List<Cube> primes(Function function) {
+        return PrimeGenerator.generate(function.minterms, function.variables);
+    }
+
+    @Benchmark
+    public List<Term> calculativeFdnf(Function function) {
+        return function.function.calculative(false);
+    }
+
+    /**
+     * Runs without the NPN cover cache, which would otherwise answer small functions from a lookup.
+     */
+    @Benchmark
+    public List<Term> quineMcCluskey(Function function) {
+        return function.function.quineMcCluskey(false);
+    }
+}
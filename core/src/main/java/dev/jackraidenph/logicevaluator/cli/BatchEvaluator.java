@@ -0,0 +1,174 @@
+package dev.jackraidenph.logicevaluator.cli;
+
+import dev.jackraidenph.logicevaluator.logic.TruthTable;
+import dev.jackraidenph.logicevaluator.utility.ParseException;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.*;
+
+/**
+ * Headless entry point: evaluates a stream of expressions without starting JavaFX and writes one JSON line
+ * per expression with the forms the application window shows. Every expression runs on its own virtual thread,
+ * but only {@link BatchOptions#parallelism()} of them compute at once, and the timeout only starts once one does.
+ * A reduction that runs out of time is interrupted and the expression is reported with an error instead, and so
+ * is one that runs out of stack or memory: a single bad line must not end a run of millions. The forms whose
+ * length follows the row count are refused above {@link BatchOptions#maxRows()} rather than left to the timeout.
+ * Lines are written in input order, and at most {@link BatchOptions#window()} are held back for that.
+ */
+public class BatchEvaluator {
+    private final BatchOptions options;
+    private final Semaphore running;
+    private final ScheduledThreadPoolExecutor timer;
+
+    public BatchEvaluator(BatchOptions options) {
+        this.options = options;
+        this.running = new Semaphore(options.parallelism());
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "batch-timeouts");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Almost every alarm is cancelled, and millions of them must not pile up in the queue.
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.print(BatchOptions.USAGE);
+            return;
+        }
+
+        BatchOptions options;
+        try {
+            options = BatchOptions.parse(args);
+        } catch (IllegalArgumentException exception) {
+            System.err.println(exception.getMessage());
+            System.err.print(BatchOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        try (BufferedReader reader = options.input() == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(options.input());
+             Writer writer = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16)) {
+            new BatchEvaluator(options).run(reader, writer);
+        }
+    }
+
+    public void run(BufferedReader reader, Writer writer) throws IOException, InterruptedException {
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            Deque<Future<String>> pending = new ArrayDeque<>();
+            long number = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                number++;
+                if (line.isBlank())
+                    continue;
+                long lineNumber = number;
+                String expression = line.strip();
+                pending.add(threads.submit(() -> evaluate(lineNumber, expression)));
+                if (pending.size() >= options.window()) {
+                    write(pending.poll(), writer);
+                }
+            }
+            while (!pending.isEmpty()) {
+                write(pending.poll(), writer);
+            }
+        } finally {
+            timer.shutdownNow();
+        }
+    }
+
+    private static void write(Future<String> result, Writer writer) throws IOException, InterruptedException {
+        try {
+            writer.write(result.get());
+            writer.write('\n');
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException("Evaluation failed unexpectedly", exception.getCause());
+        }
+    }
+
+    private String evaluate(long line, String expression) throws InterruptedException {
+        StringBuilder json = new StringBuilder("{\"line\":").append(line).append(",\"expression\":");
+        quote(json, expression);
+
+        running.acquire();
+        ScheduledFuture<?> alarm = options.timeout().isZero()
+                ? null
+                : timer.schedule(Thread.currentThread()::interrupt, options.timeout().toNanos(), TimeUnit.NANOSECONDS);
+        try {
+            StringBuilder forms = new StringBuilder();
+            TruthTable table = new TruthTable(expression);
+            forms.append(",\"operands\":[");
+            for (int index = 0; index < table.getOperands().size(); index++) {
+                if (index > 0) {
+                    forms.append(',');
+                }
+                quote(forms, table.getOperands().get(index));
+            }
+            forms.append(']');
+            if (options.maxRows() > 0 && table.getRowCount() > options.maxRows()
+                    && options.forms().stream().anyMatch(Form::listsRows))
+                throw new IllegalArgumentException("Table has " + table.getRowCount()
+                        + " rows, more than the " + options.maxRows() + " the row-listing forms allow");
+            for (Form form : Form.values()) {
+                if (options.forms().contains(form)) {
+                    forms.append(",\"").append(form.getKey()).append("\":");
+                    quote(forms, form.compute(table));
+                }
+            }
+            json.append(forms);
+        } catch (CancellationException exception) {
+            json.append(",\"error\":");
+            quote(json, "Timed out after " + options.timeout().toMillis() + " ms");
+        } catch (ParseException exception) {
+            json.append(",\"error\":");
+            quote(json, exception.getMessage());
+            json.append(",\"position\":").append(exception.getPosition());
+        } catch (RuntimeException exception) {
+            json.append(",\"error\":");
+            quote(json, String.valueOf(exception.getMessage()));
+        } catch (StackOverflowError error) {
+            json.append(",\"error\":");
+            quote(json, "Ran out of stack space");
+        } catch (OutOfMemoryError error) {
+            // The forms built so far are unreachable by now, so there is memory again to report this.
+            json.append(",\"error\":");
+            quote(json, "Ran out of memory");
+        } finally {
+            if (alarm != null) {
+                alarm.cancel(false);
+            }
+            Thread.interrupted();
+            running.release();
+        }
+        return json.append('}').toString();
+    }
+
+    private static void quote(StringBuilder json, String text) {
+        json.append('"');
+        for (int index = 0; index < text.length(); index++) {
+            char symbol = text.charAt(index);
+            switch (symbol) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (symbol < 0x20) {
+                        json.append(String.format("\\u%04x", (int) symbol));
+                    } else {
+                        json.append(symbol);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,91 @@
+package dev.jackraidenph.logicevaluator.cli;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Command line of the batch evaluator.
+ *
+ * @param input       file to read expressions from, one per line, or {@code null} for standard input
+ * @param forms       forms to compute for every expression
+ * @param timeout     time one expression may take once it starts, or {@link Duration#ZERO} for no limit
+ * @param parallelism expressions evaluated at the same time
+ * @param window      expressions read ahead of the oldest one still being written
+ * @param maxRows     most rows a table may have for the forms that list them, or {@code 0} for no limit
+ */
+public record BatchOptions(Path input, Set<Form> forms, Duration timeout, int parallelism, int window,
+                           long maxRows) {
+    public static final String USAGE = """
+            Usage: BatchEvaluator [options] [file]
+            Reads one expression per line from the file, or from standard input when it is absent or '-',
+            and writes one JSON object per non-blank line, in input order.
+              --forms <list>       comma-separated forms to compute (default: all)
+                                   %s
+              --timeout <millis>   time limit per expression, 0 for none (default: 10000)
+              --parallelism <n>    expressions evaluated at once (default: available processors)
+              --window <n>         expressions read ahead of the output (default: 4096)
+              --max-rows <n>       most rows for pdnf, pcnf, the numeric forms and index, 0 for none
+                                   (default: 65536)
+            """.formatted(String.join(", ", Arrays.stream(Form.values()).map(Form::getKey).toList()));
+
+    public BatchOptions {
+        if (forms.isEmpty())
+            throw new IllegalArgumentException("At least one form must be selected");
+        if (timeout.isNegative())
+            throw new IllegalArgumentException("Timeout can't be negative: " + timeout);
+        if (parallelism < 1)
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        if (window < parallelism)
+            throw new IllegalArgumentException("Window can't be smaller than parallelism: " + window);
+        if (maxRows < 0)
+            throw new IllegalArgumentException("Row limit can't be negative: " + maxRows);
+        forms = Set.copyOf(forms);
+    }
+
+    public static BatchOptions parse(String[] args) {
+        Path input = null;
+        Set<Form> forms = EnumSet.allOf(Form.class);
+        Duration timeout = Duration.ofSeconds(10);
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int window = 4096;
+        long maxRows = 1 << 16;
+
+        for (int index = 0; index < args.length; index++) {
+            String argument = args[index];
+            if (!argument.startsWith("--")) {
+                if (input != null)
+                    throw new IllegalArgumentException("Only one input file can be given");
+                input = argument.equals("-") ? null : Path.of(argument);
+                continue;
+            }
+            if (index + 1 == args.length)
+                throw new IllegalArgumentException("Missing value for " + argument);
+            String value = args[++index];
+            switch (argument) {
+                case "--forms" -> {
+                    forms = EnumSet.noneOf(Form.class);
+                    for (String name : value.split(",")) {
+                        forms.add(Form.parse(name.strip()));
+                    }
+                }
+                case "--timeout" -> timeout = Duration.ofMillis(parseNumber(argument, value));
+                case "--parallelism" -> parallelism = (int) parseNumber(argument, value);
+                case "--window" -> window = (int) parseNumber(argument, value);
+                case "--max-rows" -> maxRows = parseNumber(argument, value);
+                default -> throw new IllegalArgumentException("Unknown option: " + argument);
+            }
+        }
+        return new BatchOptions(input, forms, timeout, parallelism, Math.max(window, parallelism), maxRows);
+    }
+
+    private static long parseNumber(String option, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Expected a number for " + option + ": " + value);
+        }
+    }
+}
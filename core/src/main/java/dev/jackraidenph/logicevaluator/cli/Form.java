@@ -0,0 +1,61 @@
+package dev.jackraidenph.logicevaluator.cli;
+
+import dev.jackraidenph.logicevaluator.logic.TruthTable;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * The forms the batch evaluator can emit, in the order the application window lists them.
+ */
+public enum Form {
+    PDNF("pdnf", true, TruthTable::getPDNF),
+    PCNF("pcnf", true, TruthTable::getPCNF),
+    NUMERIC_PDNF("numericPdnf", true, TruthTable::getNumericPDNF),
+    NUMERIC_PCNF("numericPcnf", true, TruthTable::getNumericPCNF),
+    INDEX("index", true, TruthTable::getIndexForm),
+    SDNF("sdnf", false, TruthTable::getSDNF),
+    SCNF("scnf", false, TruthTable::getSCNF),
+    CALCULATIVE_FDNF("calculativeFdnf", false, TruthTable::getCalculativeFDNF),
+    CALCULATIVE_FCNF("calculativeFcnf", false, TruthTable::getCalculativeFCNF),
+    QUINE_MCCLUSKEY_FDNF("quineMcCluskeyFdnf", false, TruthTable::getQuineMcCluskeyFDNF),
+    QUINE_MCCLUSKEY_FCNF("quineMcCluskeyFcnf", false, TruthTable::getQuineMcCluskeyFCNF),
+    KARNAUGH_FDNF("karnaughFdnf", false, table -> table.getKarnaughMap().getKMapFDNF()),
+    KARNAUGH_FCNF("karnaughFcnf", false, table -> table.getKarnaughMap().getKMapFCNF());
+
+    private final String key;
+    private final boolean listsRows;
+    private final Function<TruthTable, String> compute;
+
+    Form(String key, boolean listsRows, Function<TruthTable, String> compute) {
+        this.key = key;
+        this.listsRows = listsRows;
+        this.compute = compute;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Whether the form grows with the number of rows rather than with the reduced function.
+     */
+    public boolean listsRows() {
+        return listsRows;
+    }
+
+    public String compute(TruthTable table) {
+        return compute.apply(table);
+    }
+
+    /**
+     * Accepts either the JSON key or the constant name, ignoring case.
+     */
+    public static Form parse(String name) {
+        for (Form form : values()) {
+            if (form.key.equalsIgnoreCase(name) || form.name().equalsIgnoreCase(name))
+                return form;
+        }
+        throw new IllegalArgumentException("Unknown form: " + name.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,423 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import dev.jackraidenph.logicevaluator.utility.Operation;
+import dev.jackraidenph.logicevaluator.utility.ProcessingSequence;
+
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A manager of reduced ordered binary decision diagrams. Nodes are plain int handles into primitive arrays and
+ * are hash-consed through a unique table, so two handles are equal exactly when their functions are equal.
+ * Every operation goes through {@link #ite(int, int, int)}, whose results are kept in a direct-mapped cache.
+ * <p>
+ * Variables are ordered by level: the order given to the constructor comes first, and operands met later by
+ * {@link #build(String)} are appended below it. Nodes are never freed, so a manager should live only as long as
+ * the functions built in it. Managers are not thread-safe.
+ */
+public class BDD {
+    public static final int FALSE = 0;
+    public static final int TRUE = 1;
+
+    private static final int TERMINAL_LEVEL = Integer.MAX_VALUE;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    private static final long[] LANE_PATTERNS = {
+            0xAAAAAAAAAAAAAAAAL,
+            0xCCCCCCCCCCCCCCCCL,
+            0xF0F0F0F0F0F0F0F0L,
+            0xFF00FF00FF00FF00L,
+            0xFFFF0000FFFF0000L,
+            0xFFFFFFFF00000000L
+    };
+
+    private final List<String> order = new ArrayList<>();
+    private final Map<String, Integer> levels = new HashMap<>();
+
+    private int[] nodeLevels = new int[INITIAL_CAPACITY];
+    private int[] lows = new int[INITIAL_CAPACITY];
+    private int[] highs = new int[INITIAL_CAPACITY];
+    private int nodeCount;
+    private int[] unique = new int[INITIAL_CAPACITY * 2];
+
+    private int[] cacheFirst;
+    private int[] cacheSecond;
+    private int[] cacheThird;
+    private int[] cacheResults;
+
+    public BDD() {
+        this(List.of());
+    }
+
+    public BDD(List<String> order) {
+        nodeLevels[FALSE] = nodeLevels[TRUE] = TERMINAL_LEVEL;
+        nodeCount = 2;
+        resetCache(INITIAL_CAPACITY);
+        for (String variable : order) {
+            levelOf(variable);
+        }
+    }
+
+    /**
+     * Orders operands by their first appearance in the expression, which keeps operands that are combined
+     * together close in the order and is usually far better for circuit-like expressions than sorting by name.
+     */
+    public static List<String> appearanceOrder(String expression) {
+        ProcessingSequence sequence = ProcessingSequence.fromString(expression);
+        Set<String> result = new LinkedHashSet<>();
+        sequence.fold(new ProcessingSequence.Folder<Boolean>() {
+            @Override
+            public Boolean operand(int index) {
+                result.add(sequence.getOperands().get(index));
+                return true;
+            }
+
+            @Override
+            public Boolean apply(Operation operation, Boolean first, Boolean second) {
+                return true;
+            }
+        });
+        return List.copyOf(result);
+    }
+
+    /**
+     * Builds the diagram of an expression bottom-up from its compiled sequence, without enumerating any rows.
+     */
+    public int build(String expression) {
+        ProcessingSequence sequence = ProcessingSequence.fromString(expression);
+        int[] variables = sequence.getOperands().stream().mapToInt(this::variable).toArray();
+        Integer result = sequence.fold(new ProcessingSequence.Folder<>() {
+            @Override
+            public Integer operand(int index) {
+                return variables[index];
+            }
+
+            @Override
+            public Integer constant(boolean value) {
+                return value ? TRUE : FALSE;
+            }
+
+            @Override
+            public Integer apply(Operation operation, Integer first, Integer second) {
+                return switch (operation) {
+                    case NOT -> not(first);
+                    case AND -> and(first, second);
+                    case OR -> or(first, second);
+                    case XOR -> xor(first, second);
+                    case IMPL -> or(first, not(second));
+                    case OPEN, CLOSE -> FALSE;
+                };
+            }
+        });
+        return result;
+    }
+
+    public int variable(String name) {
+        return makeNode(levelOf(name), FALSE, TRUE);
+    }
+
+    public int not(int node) {
+        return ite(node, FALSE, TRUE);
+    }
+
+    public int and(int first, int second) {
+        return ite(first, second, FALSE);
+    }
+
+    public int or(int first, int second) {
+        return ite(first, TRUE, second);
+    }
+
+    public int xor(int first, int second) {
+        return ite(first, not(second), second);
+    }
+
+    /**
+     * If-then-else: the function that equals {@code then} where {@code condition} holds and {@code otherwise} elsewhere.
+     */
+    public int ite(int condition, int then, int otherwise) {
+        if (condition == TRUE || then == otherwise)
+            return then;
+        if (condition == FALSE)
+            return otherwise;
+        if (then == TRUE && otherwise == FALSE)
+            return condition;
+
+        int slot = hash(condition, then, otherwise) & (cacheResults.length - 1);
+        if (cacheFirst[slot] == condition && cacheSecond[slot] == then && cacheThird[slot] == otherwise)
+            return cacheResults[slot];
+
+        int level = Math.min(nodeLevels[condition], Math.min(nodeLevels[then], nodeLevels[otherwise]));
+        int high = ite(cofactor(condition, level, true), cofactor(then, level, true),
+                cofactor(otherwise, level, true));
+        int low = ite(cofactor(condition, level, false), cofactor(then, level, false),
+                cofactor(otherwise, level, false));
+        int result = makeNode(level, low, high);
+
+        slot = hash(condition, then, otherwise) & (cacheResults.length - 1);
+        cacheFirst[slot] = condition;
+        cacheSecond[slot] = then;
+        cacheThird[slot] = otherwise;
+        cacheResults[slot] = result;
+        return result;
+    }
+
+    public int restrict(int node, String variable, boolean value) {
+        return restrict(node, Map.of(variable, value));
+    }
+
+    /**
+     * Cofactors a function by fixing some of its variables. Variables unknown to the manager are ignored.
+     */
+    public int restrict(int node, Map<String, Boolean> assignment) {
+        int[] fixed = new int[order.size()];
+        Arrays.fill(fixed, -1);
+        assignment.forEach((variable, value) -> {
+            Integer level = levels.get(variable);
+            if (level != null) {
+                fixed[level] = value ? 1 : 0;
+            }
+        });
+        return restrict(node, fixed, new HashMap<>());
+    }
+
+    private int restrict(int node, int[] fixed, Map<Integer, Integer> memo) {
+        if (node <= TRUE)
+            return node;
+        Integer known = memo.get(node);
+        if (known != null)
+            return known;
+
+        int level = nodeLevels[node];
+        int result = switch (fixed[level]) {
+            case 0 -> restrict(lows[node], fixed, memo);
+            case 1 -> restrict(highs[node], fixed, memo);
+            default -> makeNode(level, restrict(lows[node], fixed, memo), restrict(highs[node], fixed, memo));
+        };
+        memo.put(node, result);
+        return result;
+    }
+
+    public boolean isSatisfiable(int node) {
+        return node != FALSE;
+    }
+
+    public boolean isTautology(int node) {
+        return node == TRUE;
+    }
+
+    public boolean equivalent(int first, int second) {
+        return first == second;
+    }
+
+    /**
+     * Follows one path to {@link #TRUE} and returns the literals on it, in variable order.
+     * Variables that are not listed can take either value.
+     */
+    public Optional<Map<String, Boolean>> satisfyingAssignment(int node) {
+        if (node == FALSE)
+            return Optional.empty();
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        while (node != TRUE) {
+            boolean value = lows[node] == FALSE;
+            result.put(order.get(nodeLevels[node]), value);
+            node = value ? highs[node] : lows[node];
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Counts the satisfying assignments over every variable of the manager.
+     */
+    public BigInteger satCount(int node) {
+        return countBelow(node, new HashMap<>()).shiftLeft(levelOrBottom(node));
+    }
+
+    private BigInteger countBelow(int node, Map<Integer, BigInteger> memo) {
+        if (node == FALSE)
+            return BigInteger.ZERO;
+        if (node == TRUE)
+            return BigInteger.ONE;
+        BigInteger known = memo.get(node);
+        if (known != null)
+            return known;
+
+        int level = nodeLevels[node];
+        BigInteger result = countBelow(lows[node], memo).shiftLeft(levelOrBottom(lows[node]) - level - 1)
+                .add(countBelow(highs[node], memo).shiftLeft(levelOrBottom(highs[node]) - level - 1));
+        memo.put(node, result);
+        return result;
+    }
+
+    private int levelOrBottom(int node) {
+        return node <= TRUE ? order.size() : nodeLevels[node];
+    }
+
+    /**
+     * Counts the decision nodes reachable from a function, terminals excluded.
+     */
+    public int size(int node) {
+        Set<Integer> visited = new HashSet<>();
+        Deque<Integer> pending = new ArrayDeque<>();
+        pending.push(node);
+        while (!pending.isEmpty()) {
+            int current = pending.pop();
+            if (current > TRUE && visited.add(current)) {
+                pending.push(lows[current]);
+                pending.push(highs[current]);
+            }
+        }
+        return visited.size();
+    }
+
+    /**
+     * Variables in level order.
+     */
+    public List<String> getOrder() {
+        return List.copyOf(order);
+    }
+
+    /**
+     * Variables sorted by name, which is the column order of {@link #toTruthTable(int)} and of cube bits.
+     */
+    public List<String> getOperands() {
+        return order.stream().sorted().toList();
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the paths to {@link #TRUE} as a disjoint cube cover over {@link #getOperands()}.
+     * The cover has one cube per path, which can be far more than the number of nodes.
+     */
+    public List<Cube> toCubes(int node) {
+        int[] shifts = shifts(64);
+        List<Cube> result = new ArrayList<>();
+        collectPaths(node, shifts, 0L, Cube.sizeMask(order.size()), result);
+        return result;
+    }
+
+    private void collectPaths(int node, int[] shifts, long value, long mask, List<Cube> out) {
+        if (node == FALSE)
+            return;
+        if (node == TRUE) {
+            out.add(new Cube(value, mask));
+            return;
+        }
+        long bit = 1L << shifts[nodeLevels[node]];
+        collectPaths(lows[node], shifts, value, mask & ~bit, out);
+        collectPaths(highs[node], shifts, value | bit, mask & ~bit, out);
+    }
+
+    /**
+     * Expands a function into an explicit table over {@link #getOperands()}, evaluating 64 rows per node walk.
+     * Like a table built from rows, it has no expression: reading one off the diagram takes a term per path,
+     * and a diagram of n nodes can have 2^n paths.
+     */
+    public TruthTable toTruthTable(int node) {
+        int[] shifts = shifts(62);
+        return new TruthTable("", getOperands(),
+                () -> (LongUnaryOperator) word -> evaluateWord(node, word << 6, shifts));
+    }
+
+    private long evaluateWord(int node, long firstRow, int[] shifts) {
+        if (node <= TRUE)
+            return node == TRUE ? -1L : 0L;
+        int shift = shifts[nodeLevels[node]];
+        if (shift >= LANE_PATTERNS.length) {
+            return evaluateWord(((firstRow >>> shift) & 1) != 0 ? highs[node] : lows[node], firstRow, shifts);
+        }
+        long lanes = LANE_PATTERNS[shift];
+        return (lanes & evaluateWord(highs[node], firstRow, shifts))
+                | (~lanes & evaluateWord(lows[node], firstRow, shifts));
+    }
+
+    /**
+     * Maps every level to the row-index bit of its variable: the i-th sorted operand owns bit {@code size - 1 - i}.
+     */
+    private int[] shifts(int limit) {
+        final int size = order.size();
+        if (size > limit)
+            throw new IllegalArgumentException("Can't index rows over " + size + " variables");
+        List<String> operands = getOperands();
+        int[] result = new int[size];
+        for (int index = 0; index < size; index++) {
+            result[levels.get(operands.get(index))] = size - 1 - index;
+        }
+        return result;
+    }
+
+    private int levelOf(String variable) {
+        return levels.computeIfAbsent(variable, name -> {
+            order.add(name);
+            return order.size() - 1;
+        });
+    }
+
+    private int cofactor(int node, int level, boolean high) {
+        if (nodeLevels[node] != level)
+            return node;
+        return high ? highs[node] : lows[node];
+    }
+
+    private int makeNode(int level, int low, int high) {
+        if (low == high)
+            return low;
+        if ((nodeCount + 1) * 2 > unique.length) {
+            growUnique();
+        }
+
+        int mask = unique.length - 1;
+        for (int slot = hash(level, low, high) & mask; ; slot = (slot + 1) & mask) {
+            int node = unique[slot];
+            if (node == 0) {
+                node = allocate(level, low, high);
+                unique[slot] = node;
+                return node;
+            }
+            if (nodeLevels[node] == level && lows[node] == low && highs[node] == high)
+                return node;
+        }
+    }
+
+    private int allocate(int level, int low, int high) {
+        if (nodeCount == nodeLevels.length) {
+            int capacity = nodeLevels.length * 2;
+            nodeLevels = Arrays.copyOf(nodeLevels, capacity);
+            lows = Arrays.copyOf(lows, capacity);
+            highs = Arrays.copyOf(highs, capacity);
+            resetCache(capacity);
+        }
+        nodeLevels[nodeCount] = level;
+        lows[nodeCount] = low;
+        highs[nodeCount] = high;
+        return nodeCount++;
+    }
+
+    private void growUnique() {
+        unique = new int[unique.length * 2];
+        int mask = unique.length - 1;
+        for (int node = TRUE + 1; node < nodeCount; node++) {
+            int slot = hash(nodeLevels[node], lows[node], highs[node]) & mask;
+            while (unique[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            unique[slot] = node;
+        }
+    }
+
+    private void resetCache(int capacity) {
+        cacheFirst = new int[capacity];
+        cacheSecond = new int[capacity];
+        cacheThird = new int[capacity];
+        cacheResults = new int[capacity];
+        Arrays.fill(cacheFirst, -1);
+    }
+
+    private static int hash(int first, int second, int third) {
+        long hash = first * 0x9E3779B97F4A7C15L + second * 0xC2B2AE3D27D4EB4FL + third * 0x165667B19E3779F9L;
+        return (int) (hash ^ (hash >>> 29));
+    }
+}
@@ -0,0 +1,50 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+/**
+ * A fixed-size column of bits addressed by row index and accessed 64 rows per word.
+ * Bits past {@link #size()} in the last word are always zero.
+ */
+public interface BitColumn {
+    long size();
+
+    long getWord(long wordIndex);
+
+    void setWord(long wordIndex, long word);
+
+    default long wordCount() {
+        return (size() + 63) >>> 6;
+    }
+
+    default boolean get(long index) {
+        return (getWord(index >>> 6) & (1L << index)) != 0;
+    }
+
+    default void set(long index, boolean value) {
+        long word = getWord(index >>> 6);
+        setWord(index >>> 6, value ? word | (1L << index) : word & ~(1L << index));
+    }
+
+    default long cardinality() {
+        long result = 0;
+        for (long word = 0; word < wordCount(); word++) {
+            result += Long.bitCount(getWord(word));
+        }
+        return result;
+    }
+
+    default void flush() {
+    }
+
+    static long validMask(long size, long wordIndex) {
+        long remaining = size - (wordIndex << 6);
+        return remaining >= 64 ? -1L : (1L << remaining) - 1;
+    }
+
+    static BitColumn onHeap(long size) {
+        return new HeapBitColumn(size);
+    }
+
+    static BitColumn offHeap(long size) {
+        return BufferBitColumn.allocateDirect(size);
+    }
+}
@@ -0,0 +1,94 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * A bit column kept outside the Java heap, either in direct buffers or in a memory-mapped file.
+ * The words are spread over chunks of at most 1 GiB, so a column is not bound by the 2^31 index limit
+ * of a single buffer and can hold tables of 36 and more variables.
+ */
+public class BufferBitColumn implements BitColumn {
+    private static final int CHUNK_WORDS_SHIFT = 27;
+    private static final long CHUNK_WORDS = 1L << CHUNK_WORDS_SHIFT;
+
+    private final ByteBuffer[] buffers;
+    private final LongBuffer[] chunks;
+    private final long size;
+
+    private BufferBitColumn(long size, ByteBuffer[] buffers) {
+        this.size = size;
+        this.buffers = buffers;
+        this.chunks = new LongBuffer[buffers.length];
+        for (int chunk = 0; chunk < buffers.length; chunk++) {
+            chunks[chunk] = buffers[chunk].order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+        }
+    }
+
+    public static BufferBitColumn allocateDirect(long size) {
+        ByteBuffer[] buffers = new ByteBuffer[chunkCount(size)];
+        for (int chunk = 0; chunk < buffers.length; chunk++) {
+            buffers[chunk] = ByteBuffer.allocateDirect(chunkBytes(size, chunk));
+        }
+        return new BufferBitColumn(size, buffers);
+    }
+
+    /**
+     * Maps a column of {@code size} bits starting at byte {@code offset} of the channel's file.
+     * With {@link FileChannel.MapMode#READ_WRITE} the file is grown as needed and writes go straight to it.
+     */
+    public static BufferBitColumn map(FileChannel channel, FileChannel.MapMode mode, long offset, long size)
+            throws IOException {
+        ByteBuffer[] buffers = new ByteBuffer[chunkCount(size)];
+        long position = offset;
+        for (int chunk = 0; chunk < buffers.length; chunk++) {
+            int bytes = chunkBytes(size, chunk);
+            buffers[chunk] = channel.map(mode, position, bytes);
+            position += bytes;
+        }
+        return new BufferBitColumn(size, buffers);
+    }
+
+    public static long byteSize(long size) {
+        return ((size + 63) >>> 6) << 3;
+    }
+
+    private static int chunkCount(long size) {
+        long words = (size + 63) >>> 6;
+        return (int) ((words + CHUNK_WORDS - 1) >>> CHUNK_WORDS_SHIFT);
+    }
+
+    private static int chunkBytes(long size, int chunk) {
+        long words = (size + 63) >>> 6;
+        return (int) (Math.min(CHUNK_WORDS, words - ((long) chunk << CHUNK_WORDS_SHIFT)) << 3);
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public long getWord(long wordIndex) {
+        return chunks[(int) (wordIndex >>> CHUNK_WORDS_SHIFT)].get((int) (wordIndex & (CHUNK_WORDS - 1)));
+    }
+
+    @Override
+    public void setWord(long wordIndex, long word) {
+        chunks[(int) (wordIndex >>> CHUNK_WORDS_SHIFT)]
+                .put((int) (wordIndex & (CHUNK_WORDS - 1)), word & BitColumn.validMask(size, wordIndex));
+    }
+
+    @Override
+    public void flush() {
+        for (ByteBuffer buffer : buffers) {
+            if (buffer instanceof MappedByteBuffer mapped) {
+                mapped.force();
+            }
+        }
+    }
+}
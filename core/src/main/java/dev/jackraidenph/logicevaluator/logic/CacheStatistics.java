@@ -0,0 +1,13 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+/**
+ * Counters of a bounded cache since it was created, as reported by {@link TruthTableCache} and {@link NpnCoverCache}.
+ *
+ * @param size entries held right now
+ */
+public record CacheStatistics(long hits, long misses, long evictions, int size) {
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,17 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Lets long reductions stop once the thread running them is interrupted, e.g. by a timeout.
+ * The interrupt flag is left set, and nothing is buffered for a reduction that was cancelled.
+ */
+final class Cancellation {
+    private Cancellation() {
+    }
+
+    static void check() {
+        if (Thread.currentThread().isInterrupted())
+            throw new CancellationException("Interrupted");
+    }
+}
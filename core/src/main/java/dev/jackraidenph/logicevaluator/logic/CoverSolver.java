@@ -0,0 +1,439 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Solves the prime implicant chart: picks the cheapest set of primes that covers every minterm.
+ * Rows are minterms and columns are primes, both kept as long[] bitsets. The chart is reduced with
+ * essential primes, row dominance and column dominance, and the cyclic core left over is solved by
+ * branch-and-bound. Once the time budget runs out the best cover found so far is returned,
+ * which is at worst the greedy cover computed up front.
+ */
+public class CoverSolver {
+    public static final Duration DEFAULT_BUDGET = Duration.ofSeconds(1);
+
+    private static final long TERM_COST = 1L << 16;
+    private static final long DOMINANCE_WORK_LIMIT = 1L << 26;
+
+    private final int rowCount;
+    private final int columnCount;
+    private final long[][] columnRows;
+    private final long[][] rowColumns;
+    private final long[] costs;
+    private final long deadline;
+
+    private long[] best;
+    private long bestCost = Long.MAX_VALUE;
+
+    private CoverSolver(int rowCount, int columnCount, Duration budget) {
+        this.rowCount = rowCount;
+        this.columnCount = columnCount;
+        columnRows = new long[columnCount][words(rowCount)];
+        rowColumns = new long[rowCount][words(columnCount)];
+        costs = new long[columnCount];
+        deadline = System.nanoTime() + budget.toNanos();
+    }
+
+    /**
+     * @param minterms sorted minterms that must be covered
+     * @param primes   candidate cubes; cubes may also cover points outside {@code minterms}
+     */
+    public static List<Cube> solve(long[] minterms, List<Cube> primes, int size, Duration budget) {
+        CoverSolver solver = new CoverSolver(minterms.length, primes.size(), budget);
+        for (int column = 0; column < primes.size(); column++) {
+            Cube prime = primes.get(column);
+            solver.costs[column] = TERM_COST + prime.literalCount(size);
+            final int finalColumn = column;
+            if (prime.mintermCount() < minterms.length) {
+                prime.forEachMinterm(minterm -> {
+                    int row = Arrays.binarySearch(minterms, minterm);
+                    if (row >= 0) {
+                        solver.link(row, finalColumn);
+                    }
+                });
+            } else {
+                for (int row = 0; row < minterms.length; row++) {
+                    if (prime.covers(minterms[row])) {
+                        solver.link(row, column);
+                    }
+                }
+            }
+        }
+        solver.run();
+
+        List<Cube> result = new ArrayList<>();
+        for (int column = nextSetBit(solver.best, 0); column >= 0; column = nextSetBit(solver.best, column + 1)) {
+            result.add(primes.get(column));
+        }
+        return result;
+    }
+
+    /**
+     * Solves a chart given row by row instead of through cubes, as when one term may serve several functions.
+     *
+     * @param columnRows the rows each column covers
+     * @param literals   the literal count of each column's term, which breaks ties between equally many terms
+     * @return the chosen columns in increasing order
+     */
+    static int[] solve(int rowCount, int[][] columnRows, int[] literals, Duration budget) {
+        CoverSolver solver = new CoverSolver(rowCount, columnRows.length, budget);
+        for (int column = 0; column < columnRows.length; column++) {
+            solver.costs[column] = TERM_COST + literals[column];
+            for (int row : columnRows[column]) {
+                solver.link(row, column);
+            }
+        }
+        solver.run();
+        return members(solver.best);
+    }
+
+    private void link(int row, int column) {
+        set(columnRows[column], row);
+        set(rowColumns[row], column);
+    }
+
+    private void run() {
+        State root = new State();
+        for (int row = 0; row < rowCount; row++) {
+            set(root.rows, row);
+        }
+        for (int column = 0; column < columnCount; column++) {
+            set(root.columns, column);
+        }
+
+        if (!root.reduce())
+            throw new IllegalArgumentException("Primes don't cover every minterm!");
+
+        State greedy = root.copy();
+        greedy.completeGreedily();
+        best = greedy.chosen;
+        bestCost = greedy.cost;
+
+        branch(root);
+    }
+
+    private boolean branch(State state) {
+        Cancellation.check();
+        if (System.nanoTime() > deadline)
+            return false;
+        if (state.isSolved()) {
+            if (state.cost < bestCost) {
+                best = state.chosen;
+                bestCost = state.cost;
+            }
+            return true;
+        }
+        if (state.cost + state.lowerBound() >= bestCost)
+            return true;
+
+        int row = state.hardestRow();
+        long[] candidates = state.columnsOf(row);
+        int[] order = state.byCoverage(candidates);
+        for (int column : order) {
+            State next = state.copy();
+            next.choose(column);
+            if (next.reduce() && !branch(next))
+                return false;
+            state.columns[column >>> 6] &= ~(1L << column);
+        }
+        return true;
+    }
+
+    private class State {
+        private final long[] rows;
+        private final long[] columns;
+        private final long[] chosen;
+        private long cost;
+
+        private State() {
+            rows = new long[words(rowCount)];
+            columns = new long[words(columnCount)];
+            chosen = new long[words(columnCount)];
+        }
+
+        private State(State copy) {
+            rows = copy.rows.clone();
+            columns = copy.columns.clone();
+            chosen = copy.chosen.clone();
+            cost = copy.cost;
+        }
+
+        private State copy() {
+            return new State(this);
+        }
+
+        private boolean isSolved() {
+            return isEmpty(rows);
+        }
+
+        private void choose(int column) {
+            set(chosen, column);
+            cost += costs[column];
+            columns[column >>> 6] &= ~(1L << column);
+            andNot(rows, columnRows[column]);
+        }
+
+        private long[] columnsOf(int row) {
+            long[] result = rowColumns[row].clone();
+            and(result, columns);
+            return result;
+        }
+
+        private int coverage(int column) {
+            return intersectionCount(columnRows[column], rows);
+        }
+
+        private boolean reduce() {
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+
+                for (int row = nextSetBit(rows, 0); row >= 0; row = nextSetBit(rows, row + 1)) {
+                    long[] candidates = columnsOf(row);
+                    int count = cardinality(candidates);
+                    if (count == 0)
+                        return false;
+                    if (count == 1) {
+                        choose(nextSetBit(candidates, 0));
+                        changed = true;
+                    }
+                }
+
+                changed |= removeDominatedRows();
+                changed |= removeDominatedColumns();
+            }
+            return true;
+        }
+
+        private boolean removeDominatedRows() {
+            int[] remaining = members(rows);
+            if ((long) remaining.length * remaining.length * words(columnCount) > DOMINANCE_WORK_LIMIT)
+                return false;
+
+            long[][] sets = new long[remaining.length][];
+            int[] counts = new int[remaining.length];
+            for (int i = 0; i < remaining.length; i++) {
+                sets[i] = columnsOf(remaining[i]);
+                counts[i] = cardinality(sets[i]);
+            }
+
+            boolean changed = false;
+            for (int i = 0; i < remaining.length; i++) {
+                for (int j = 0; j < remaining.length; j++) {
+                    if (i == j || sets[j] == null || counts[j] > counts[i])
+                        continue;
+                    if ((counts[j] < counts[i] || j < i) && isSubset(sets[j], sets[i])) {
+                        rows[remaining[i] >>> 6] &= ~(1L << remaining[i]);
+                        sets[i] = null;
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+            return changed;
+        }
+
+        private boolean removeDominatedColumns() {
+            int[] remaining = members(columns);
+            if ((long) remaining.length * remaining.length * words(rowCount) > DOMINANCE_WORK_LIMIT)
+                return false;
+
+            long[][] sets = new long[remaining.length][];
+            int[] counts = new int[remaining.length];
+            for (int i = 0; i < remaining.length; i++) {
+                sets[i] = columnRows[remaining[i]].clone();
+                and(sets[i], rows);
+                counts[i] = cardinality(sets[i]);
+            }
+
+            boolean changed = false;
+            for (int i = 0; i < remaining.length; i++) {
+                if (counts[i] == 0) {
+                    columns[remaining[i] >>> 6] &= ~(1L << remaining[i]);
+                    sets[i] = null;
+                    changed = true;
+                    continue;
+                }
+                for (int j = 0; j < remaining.length; j++) {
+                    if (i == j || sets[j] == null || counts[j] < counts[i])
+                        continue;
+                    long costI = costs[remaining[i]];
+                    long costJ = costs[remaining[j]];
+                    boolean strictlyBetter = counts[j] > counts[i] || costJ < costI || j < i;
+                    if (costJ <= costI && strictlyBetter && isSubset(sets[i], sets[j])) {
+                        columns[remaining[i] >>> 6] &= ~(1L << remaining[i]);
+                        sets[i] = null;
+                        changed = true;
+                        break;
+                    }
+                }
+            }
+            return changed;
+        }
+
+        private int hardestRow() {
+            int result = -1;
+            int fewest = Integer.MAX_VALUE;
+            for (int row = nextSetBit(rows, 0); row >= 0; row = nextSetBit(rows, row + 1)) {
+                int count = intersectionCount(rowColumns[row], columns);
+                if (count < fewest) {
+                    fewest = count;
+                    result = row;
+                }
+            }
+            return result;
+        }
+
+        private int[] byCoverage(long[] candidates) {
+            int[] members = members(candidates);
+            int[] coverage = new int[columnCount];
+            for (int column : members) {
+                coverage[column] = coverage(column);
+            }
+            return Arrays.stream(members)
+                    .boxed()
+                    .sorted((first, second) -> Long.compare(
+                            costs[first] * coverage[second], costs[second] * coverage[first]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        /**
+         * Picks rows whose candidate columns are pairwise disjoint: each of them needs its own prime.
+         */
+        private long lowerBound() {
+            long[] used = new long[words(columnCount)];
+            long bound = 0;
+            for (int row = nextSetBit(rows, 0); row >= 0; row = nextSetBit(rows, row + 1)) {
+                long[] candidates = columnsOf(row);
+                if (intersectionCount(candidates, used) != 0)
+                    continue;
+                long cheapest = Long.MAX_VALUE;
+                for (int column = nextSetBit(candidates, 0); column >= 0;
+                     column = nextSetBit(candidates, column + 1)) {
+                    cheapest = Math.min(cheapest, costs[column]);
+                }
+                bound += cheapest;
+                or(used, candidates);
+            }
+            return bound;
+        }
+
+        private void completeGreedily() {
+            while (!isSolved()) {
+                int bestColumn = -1;
+                long bestCoverage = 0;
+                long bestColumnCost = 1;
+                for (int column = nextSetBit(columns, 0); column >= 0; column = nextSetBit(columns, column + 1)) {
+                    long coverage = coverage(column);
+                    if (coverage * bestColumnCost > bestCoverage * costs[column]) {
+                        bestColumn = column;
+                        bestCoverage = coverage;
+                        bestColumnCost = costs[column];
+                    }
+                }
+                choose(bestColumn);
+            }
+
+            long[] everyRow = new long[words(rowCount)];
+            for (int row = 0; row < rowCount; row++) {
+                set(everyRow, row);
+            }
+            for (int column = nextSetBit(chosen, 0); column >= 0; column = nextSetBit(chosen, column + 1)) {
+                long[] others = new long[words(rowCount)];
+                for (int other = nextSetBit(chosen, 0); other >= 0; other = nextSetBit(chosen, other + 1)) {
+                    if (other != column) {
+                        or(others, columnRows[other]);
+                    }
+                }
+                if (isSubset(everyRow, others)) {
+                    chosen[column >>> 6] &= ~(1L << column);
+                    cost -= costs[column];
+                }
+            }
+        }
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static int nextSetBit(long[] bits, int from) {
+        int word = from >>> 6;
+        if (word >= bits.length)
+            return -1;
+        long current = bits[word] & (-1L << from);
+        while (current == 0) {
+            if (++word == bits.length)
+                return -1;
+            current = bits[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(current);
+    }
+
+    private static int[] members(long[] bits) {
+        int[] result = new int[cardinality(bits)];
+        int index = 0;
+        for (int bit = nextSetBit(bits, 0); bit >= 0; bit = nextSetBit(bits, bit + 1)) {
+            result[index++] = bit;
+        }
+        return result;
+    }
+
+    private static int cardinality(long[] bits) {
+        int result = 0;
+        for (long word : bits) {
+            result += Long.bitCount(word);
+        }
+        return result;
+    }
+
+    private static int intersectionCount(long[] first, long[] second) {
+        int result = 0;
+        for (int word = 0; word < first.length; word++) {
+            result += Long.bitCount(first[word] & second[word]);
+        }
+        return result;
+    }
+
+    private static boolean isSubset(long[] subset, long[] superset) {
+        for (int word = 0; word < subset.length; word++) {
+            if ((subset[word] & ~superset[word]) != 0)
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean isEmpty(long[] bits) {
+        for (long word : bits) {
+            if (word != 0)
+                return false;
+        }
+        return true;
+    }
+
+    private static void and(long[] target, long[] mask) {
+        for (int word = 0; word < target.length; word++) {
+            target[word] &= mask[word];
+        }
+    }
+
+    private static void or(long[] target, long[] mask) {
+        for (int word = 0; word < target.length; word++) {
+            target[word] |= mask[word];
+        }
+    }
+
+    private static void andNot(long[] target, long[] mask) {
+        for (int word = 0; word < target.length; word++) {
+            target[word] &= ~mask[word];
+        }
+    }
+}
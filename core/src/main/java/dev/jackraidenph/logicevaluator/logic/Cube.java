@@ -0,0 +1,63 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * A product of literals over row-index bits: bits set in {@code mask} are free ("-"),
+ * every other bit must match {@code value}. Bit {@code size - 1 - i} belongs to the i-th operand.
+ */
+public record Cube(long value, long mask) {
+
+    public Cube {
+        value &= ~mask;
+    }
+
+    public static Cube ofMinterm(long minterm) {
+        return new Cube(minterm, 0L);
+    }
+
+    public boolean covers(long minterm) {
+        return (minterm & ~mask) == value;
+    }
+
+    public boolean contains(Cube other) {
+        return (other.mask & ~mask) == 0 && (other.value & ~mask) == value;
+    }
+
+    public boolean intersects(Cube other) {
+        return ((value ^ other.value) & ~(mask | other.mask)) == 0;
+    }
+
+    public int literalCount(int size) {
+        return size - Long.bitCount(mask & sizeMask(size));
+    }
+
+    public long mintermCount() {
+        return 1L << Long.bitCount(mask);
+    }
+
+    public void forEachMinterm(LongConsumer action) {
+        long subset = 0;
+        do {
+            action.accept(value | subset);
+            subset = (subset - mask) & mask;
+        } while (subset != 0);
+    }
+
+    public Term toTerm(List<String> operands, boolean positive) {
+        final int size = operands.size();
+        Term term = new Term();
+        for (int i = 0; i < size; i++) {
+            long bit = 1L << (size - 1 - i);
+            if ((mask & bit) == 0) {
+                term.add(Term.matchBoolean(operands.get(i), ((value & bit) != 0) == positive));
+            }
+        }
+        return term;
+    }
+
+    public static long sizeMask(int size) {
+        return size >= 64 ? -1L : (1L << size) - 1;
+    }
+}
@@ -0,0 +1,122 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.util.Arrays;
+
+/**
+ * An open-addressing hash set of (value, mask) cube pairs kept in primitive arrays,
+ * with a mark bit and a tag word per entry. Entries are addressed by slot so callers can flag them in place.
+ */
+class CubeSet {
+    private long[] values;
+    private long[] masks;
+    private long[] tags;
+    private boolean[] used;
+    private boolean[] marked;
+    private int size;
+
+    CubeSet() {
+        this(16);
+    }
+
+    CubeSet(int expected) {
+        int capacity = Integer.highestOneBit(Math.max(16, expected * 2 - 1)) << 1;
+        values = new long[capacity];
+        masks = new long[capacity];
+        tags = new long[capacity];
+        used = new boolean[capacity];
+        marked = new boolean[capacity];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return used.length;
+    }
+
+    boolean isUsed(int slot) {
+        return used[slot];
+    }
+
+    long value(int slot) {
+        return values[slot];
+    }
+
+    long mask(int slot) {
+        return masks[slot];
+    }
+
+    long tag(int slot) {
+        return tags[slot];
+    }
+
+    boolean isMarked(int slot) {
+        return marked[slot];
+    }
+
+    void mark(int slot) {
+        marked[slot] = true;
+    }
+
+    int indexOf(long value, long mask) {
+        int last = used.length - 1;
+        for (int slot = hash(value, mask) & last; used[slot]; slot = (slot + 1) & last) {
+            if (values[slot] == value && masks[slot] == mask)
+                return slot;
+        }
+        return -1;
+    }
+
+    boolean add(long value, long mask, long tag) {
+        if ((size + 1) * 2 > used.length) {
+            grow();
+        }
+        int last = used.length - 1;
+        int slot = hash(value, mask) & last;
+        for (; used[slot]; slot = (slot + 1) & last) {
+            if (values[slot] == value && masks[slot] == mask)
+                return false;
+        }
+        used[slot] = true;
+        values[slot] = value;
+        masks[slot] = mask;
+        tags[slot] = tag;
+        size++;
+        return true;
+    }
+
+    private void grow() {
+        long[] oldValues = values;
+        long[] oldMasks = masks;
+        long[] oldTags = tags;
+        boolean[] oldUsed = used;
+        boolean[] oldMarked = marked;
+        int capacity = oldUsed.length << 1;
+        values = new long[capacity];
+        masks = new long[capacity];
+        tags = new long[capacity];
+        used = new boolean[capacity];
+        marked = new boolean[capacity];
+        size = 0;
+        for (int slot = 0; slot < oldUsed.length; slot++) {
+            if (oldUsed[slot]) {
+                add(oldValues[slot], oldMasks[slot], oldTags[slot]);
+                if (oldMarked[slot]) {
+                    marked[indexOf(oldValues[slot], oldMasks[slot])] = true;
+                }
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(used, false);
+        Arrays.fill(marked, false);
+        size = 0;
+    }
+
+    private static int hash(long value, long mask) {
+        long mixed = (value * 0x9E3779B97F4A7C15L) ^ (mask * 0xC2B2AE3D27D4EB4FL);
+        return (int) (mixed ^ (mixed >>> 29));
+    }
+}
@@ -0,0 +1,339 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Heuristic two-level minimization in the style of Espresso: the cover is expanded into primes
+ * against the off-set, made irredundant, then reduced and expanded again for as long as its cost drops.
+ * Every step works on cube lists, so neither the on-set nor the off-set has to be enumerated
+ * minterm by minterm, and each iteration is polynomial in the number of cubes.
+ */
+public class Espresso {
+    private final int size;
+    private final long domain;
+    private final List<Cube> onSet;
+    private final List<Cube> dontCares;
+    private final long[] offValues;
+    private final long[] offMasks;
+
+    /**
+     * @param dontCares the don't-care cover, or {@code null} when every row outside the on- and off-set is one
+     */
+    private Espresso(int size, List<Cube> onSet, List<Cube> dontCares, List<Cube> offSet) {
+        this.size = size;
+        this.domain = Cube.sizeMask(size);
+        this.onSet = onSet;
+        this.dontCares = dontCares;
+        this.offValues = offSet.stream().mapToLong(Cube::value).toArray();
+        this.offMasks = offSet.stream().mapToLong(Cube::mask).toArray();
+    }
+
+    public static List<Cube> minimize(int size, List<Cube> onSet, List<Cube> dontCares) {
+        List<Cube> specified = new ArrayList<>(onSet);
+        specified.addAll(dontCares);
+        return minimize(size, onSet, dontCares, complement(specified, Cube.sizeMask(size)));
+    }
+
+    public static List<Cube> minimize(int size, List<Cube> onSet, List<Cube> dontCares, List<Cube> offSet) {
+        return new Espresso(size, onSet, dontCares, offSet).run(onSet);
+    }
+
+    /**
+     * Minimizes a function given by its on- and off-set alone, every other row being a don't-care. The
+     * don't-cares are never listed: a cube kept clear of the off-set is covered by the rest of the cover
+     * and the don't-cares exactly when the on-set rows inside it are, so only those are checked.
+     */
+    public static List<Cube> minimizeSpecified(int size, List<Cube> onSet, List<Cube> offSet) {
+        return new Espresso(size, onSet, null, offSet).run(onSet);
+    }
+
+    private List<Cube> run(List<Cube> onSet) {
+        List<Cube> cover = irredundant(expand(onSet));
+        long cost = cost(cover);
+        while (true) {
+            Cancellation.check();
+            List<Cube> candidate = irredundant(expand(reduce(cover)));
+            long candidateCost = cost(candidate);
+            if (candidateCost >= cost)
+                break;
+            cover = candidate;
+            cost = candidateCost;
+        }
+        cover.sort(Comparator.comparingLong(Cube::value).thenComparingLong(Cube::mask));
+        return cover;
+    }
+
+    private long cost(List<Cube> cover) {
+        long literals = 0;
+        for (Cube cube : cover) {
+            literals += cube.literalCount(size);
+        }
+        return ((long) cover.size() << 32) + literals;
+    }
+
+    private List<Cube> expand(List<Cube> cover) {
+        List<Cube> pending = new ArrayList<>(cover);
+        pending.sort(Comparator.comparingLong(Cube::mintermCount).reversed());
+
+        int[] freeCounts = new int[size];
+        for (Cube cube : pending) {
+            for (int bit = 0; bit < size; bit++) {
+                if ((cube.mask() & (1L << bit)) != 0) {
+                    freeCounts[bit]++;
+                }
+            }
+        }
+        int[] order = IntStream.range(0, size)
+                .boxed()
+                .sorted((first, second) -> Integer.compare(freeCounts[second], freeCounts[first]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        List<Cube> result = new ArrayList<>();
+        boolean[] covered = new boolean[pending.size()];
+        for (int index = 0; index < pending.size(); index++) {
+            if (covered[index])
+                continue;
+
+            Cube expanded = expand(pending.get(index), order);
+
+            for (int other = index + 1; other < pending.size(); other++) {
+                covered[other] |= expanded.contains(pending.get(other));
+            }
+            final Cube prime = expanded;
+            result.removeIf(prime::contains);
+            result.add(prime);
+        }
+        return result;
+    }
+
+    /**
+     * Raises the literals of a cube one by one while it stays disjoint from the off-set. For every off-set cube
+     * the literals it conflicts with are tracked; a literal is blocked once it is the last conflict left.
+     */
+    private Cube expand(Cube cube, int[] order) {
+        long[] conflicts = new long[offValues.length];
+        long blocked = 0;
+        for (int index = 0; index < conflicts.length; index++) {
+            conflicts[index] = (cube.value() ^ offValues[index]) & ~cube.mask() & ~offMasks[index];
+            if (Long.bitCount(conflicts[index]) == 1) {
+                blocked |= conflicts[index];
+            }
+        }
+
+        long mask = cube.mask();
+        for (int bit : order) {
+            long literal = 1L << bit;
+            if ((mask & literal) != 0 || (blocked & literal) != 0)
+                continue;
+            mask |= literal;
+            for (int index = 0; index < conflicts.length; index++) {
+                if ((conflicts[index] & literal) != 0) {
+                    conflicts[index] &= ~literal;
+                    if (Long.bitCount(conflicts[index]) == 1) {
+                        blocked |= conflicts[index];
+                    }
+                }
+            }
+        }
+        return new Cube(cube.value(), mask);
+    }
+
+    private List<Cube> irredundant(List<Cube> cover) {
+        List<Cube> result = new ArrayList<>(cover);
+        result.sort(Comparator.comparingLong(Cube::mintermCount));
+        for (Iterator<Cube> iterator = result.iterator(); iterator.hasNext(); ) {
+            Cube cube = iterator.next();
+            List<Cube> others = new ArrayList<>(dontCares == null ? List.of() : dontCares);
+            for (Cube other : result) {
+                if (other != cube) {
+                    others.add(other);
+                }
+            }
+            if (dontCares == null ? uncoveredOnSet(cube, others).isEmpty() : isCovered(cube, others)) {
+                iterator.remove();
+            }
+        }
+        return result;
+    }
+
+    private List<Cube> reduce(List<Cube> cover) {
+        List<Cube> result = new ArrayList<>(cover);
+        result.sort(Comparator.comparingLong(Cube::mintermCount).reversed());
+        for (int index = 0; index < result.size(); index++) {
+            Cube cube = result.get(index);
+            List<Cube> others = new ArrayList<>(dontCares == null ? List.of() : dontCares);
+            for (int other = 0; other < result.size(); other++) {
+                if (other != index) {
+                    others.add(result.get(other));
+                }
+            }
+
+            List<Cube> uncovered = dontCares == null
+                    ? uncoveredOnSet(cube, others)
+                    : complement(cofactor(others, cube), domain);
+            if (uncovered.isEmpty()) {
+                result.remove(index--);
+                continue;
+            }
+            long reference = uncovered.get(0).value();
+            long free = 0;
+            for (Cube part : uncovered) {
+                free |= part.mask() | (part.value() ^ reference);
+            }
+            result.set(index, new Cube(cube.value() | (reference & ~free), cube.mask() & free));
+        }
+        return result;
+    }
+
+    /**
+     * Lists the parts of the on-set inside {@code cube} that {@code cover} misses. The parts are given
+     * with every bit fixed by {@code cube} still fixed, so reducing to their supercube keeps the cube's literals.
+     */
+    private List<Cube> uncoveredOnSet(Cube cube, List<Cube> cover) {
+        List<Cube> result = new ArrayList<>();
+        for (Cube on : onSet) {
+            if (!on.intersects(cube))
+                continue;
+            Cube part = new Cube(on.value() | cube.value(), on.mask() & cube.mask());
+            for (Cube missed : complement(cofactor(cover, part), domain & part.mask())) {
+                result.add(new Cube(part.value() | missed.value(), missed.mask()));
+            }
+        }
+        return result;
+    }
+
+    private boolean isCovered(Cube cube, List<Cube> cover) {
+        return isTautology(cofactor(cover, cube), domain);
+    }
+
+    static List<Cube> cofactor(List<Cube> cover, Cube against) {
+        List<Cube> result = new ArrayList<>();
+        for (Cube cube : cover) {
+            if (cube.intersects(against)) {
+                result.add(new Cube(cube.value(), cube.mask() | ~against.mask()));
+            }
+        }
+        return result;
+    }
+
+    private static List<Cube> cofactor(List<Cube> cover, long bit, boolean positive) {
+        List<Cube> result = new ArrayList<>();
+        for (Cube cube : cover) {
+            if ((cube.mask() & bit) != 0 || ((cube.value() & bit) != 0) == positive) {
+                result.add(new Cube(cube.value(), cube.mask() | bit));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Picks the variable fixed in the most cubes, preferring ones fixed in both polarities.
+     * Returns 0 when every cube is free in every variable of the domain.
+     */
+    private static long splittingBit(List<Cube> cover, long domain) {
+        long best = 0;
+        long bestScore = -1;
+        for (long remaining = domain; remaining != 0; remaining &= remaining - 1) {
+            long bit = Long.lowestOneBit(remaining);
+            int zeros = 0;
+            int ones = 0;
+            for (Cube cube : cover) {
+                if ((cube.mask() & bit) == 0) {
+                    if ((cube.value() & bit) != 0) {
+                        ones++;
+                    } else {
+                        zeros++;
+                    }
+                }
+            }
+            if (zeros + ones == 0)
+                continue;
+            long score = ((long) Math.min(zeros, ones) << 32) + zeros + ones;
+            if (score > bestScore) {
+                bestScore = score;
+                best = bit;
+            }
+        }
+        return best;
+    }
+
+    static boolean isTautology(List<Cube> cover, long domain) {
+        if (cover.isEmpty())
+            return false;
+        double volume = 0;
+        for (Cube cube : cover) {
+            if ((cube.mask() & domain) == domain)
+                return true;
+            volume += Math.pow(2, Long.bitCount(cube.mask() & domain));
+        }
+        if (volume < Math.pow(2, Long.bitCount(domain)))
+            return false;
+
+        long bit = splittingBit(cover, domain);
+        boolean hasZero = false;
+        boolean hasOne = false;
+        for (Cube cube : cover) {
+            if ((cube.mask() & bit) == 0) {
+                hasOne |= (cube.value() & bit) != 0;
+                hasZero |= (cube.value() & bit) == 0;
+            }
+        }
+        if (!(hasZero && hasOne)) {
+            List<Cube> independent = new ArrayList<>();
+            for (Cube cube : cover) {
+                if ((cube.mask() & bit) != 0) {
+                    independent.add(cube);
+                }
+            }
+            return isTautology(independent, domain & ~bit);
+        }
+        return isTautology(cofactor(cover, bit, false), domain & ~bit)
+                && isTautology(cofactor(cover, bit, true), domain & ~bit);
+    }
+
+    /**
+     * Complements a cover within the variables of {@code domain} by recursive Shannon expansion.
+     */
+    public static List<Cube> complement(List<Cube> cover, long domain) {
+        List<Cube> result = new ArrayList<>();
+        if (cover.isEmpty()) {
+            result.add(new Cube(0L, domain));
+            return result;
+        }
+        for (Cube cube : cover) {
+            if ((cube.mask() & domain) == domain)
+                return result;
+        }
+        if (cover.size() == 1) {
+            Cube cube = cover.get(0);
+            long fixed = domain & ~cube.mask();
+            long previous = 0;
+            for (long remaining = fixed; remaining != 0; remaining &= remaining - 1) {
+                long bit = Long.lowestOneBit(remaining);
+                result.add(new Cube((cube.value() & previous) | (~cube.value() & bit), domain & ~(previous | bit)));
+                previous |= bit;
+            }
+            return result;
+        }
+
+        long bit = splittingBit(cover, domain);
+        List<Cube> zeros = complement(cofactor(cover, bit, false), domain & ~bit);
+        List<Cube> ones = complement(cofactor(cover, bit, true), domain & ~bit);
+
+        Set<Cube> shared = new HashSet<>(zeros);
+        shared.retainAll(new HashSet<>(ones));
+        for (Cube cube : zeros) {
+            result.add(shared.contains(cube)
+                    ? new Cube(cube.value(), cube.mask() | bit)
+                    : new Cube(cube.value() & ~bit, cube.mask() & ~bit));
+        }
+        for (Cube cube : ones) {
+            if (!shared.contains(cube)) {
+                result.add(new Cube(cube.value() | bit, cube.mask() & ~bit));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,42 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+public class HeapBitColumn implements BitColumn {
+    private final long[] words;
+    private final long size;
+
+    public HeapBitColumn(long size) {
+        if (size < 0 || (size + 63) >>> 6 > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Unsupported column size: " + size);
+        this.size = size;
+        this.words = new long[(int) ((size + 63) >>> 6)];
+    }
+
+    @Override
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public long getWord(long wordIndex) {
+        return words[(int) wordIndex];
+    }
+
+    @Override
+    public void setWord(long wordIndex, long word) {
+        words[(int) wordIndex] = word & BitColumn.validMask(size, wordIndex);
+    }
+
+    @Override
+    public boolean get(long index) {
+        return (words[(int) (index >>> 6)] & (1L << index)) != 0;
+    }
+
+    @Override
+    public void set(long index, boolean value) {
+        if (value) {
+            words[(int) (index >>> 6)] |= 1L << index;
+        } else {
+            words[(int) (index >>> 6)] &= ~(1L << index);
+        }
+    }
+}
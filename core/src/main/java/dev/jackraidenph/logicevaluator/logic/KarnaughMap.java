@@ -0,0 +1,341 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.util.*;
+
+/**
+ * A Karnaugh map seen as the n-cube over the row indices of a table, so it works for any number of operands
+ * rather than only the ones that fit on a 2D sheet. Groups are power-of-two subcubes: for every free-bit mask
+ * a bitset marks the values whose subcube lies in the function, built from a smaller mask by one shift and AND.
+ * The largest groups are then picked the way one would by hand: groups that are the only one over some cell
+ * first, then the group that covers the most cells still uncovered, until a counter of uncovered cells runs out.
+ */
+public class KarnaughMap {
+    /**
+     * Above this many operands the per-mask bitsets would take 4^n bits, so groups come from {@link PrimeGenerator}.
+     */
+    static final int SUBCUBE_LIMIT = 14;
+
+    private final TruthTable table;
+    private final List<String> operands;
+    private final int size;
+    private String bufferedFDNF;
+    private String bufferedFCNF;
+
+    public KarnaughMap(TruthTable table) {
+        this.table = table;
+        this.operands = table.getOperands();
+        this.size = operands.size();
+    }
+
+    /**
+     * Returns the groups covering the ones, or the zeros, of the map. Rows a partial table leaves out are
+     * don't-cares: groups may take them in but never have to cover them.
+     */
+    public List<Cube> traverseKMap(boolean ones) {
+        long[] cells = table.minterms(ones).toArray();
+        return cover(cells, table.implicantRows(cells), size);
+    }
+
+    /**
+     * Groups every cell of {@code target} with subcubes that stay within {@code allowed}, a sorted superset of it.
+     */
+    static List<Cube> cover(long[] target, long[] allowed, int size) {
+        List<Cube> groups = new ArrayList<>();
+        for (Cube group : size <= SUBCUBE_LIMIT ? subcubes(allowed, size) : PrimeGenerator.generate(allowed, size)) {
+            if (hitsAny(group, target)) {
+                groups.add(group);
+            }
+        }
+        return select(target, groups);
+    }
+
+    /**
+     * Finds the maximal subcubes of the allowed rows. {@code inside[mask]} holds the values whose subcube with
+     * free bits {@code mask} is allowed: it is {@code inside[mask - bit]} ANDed with itself shifted by the lowest
+     * free bit. A subcube is maximal when no larger mask keeps it inside.
+     */
+    private static List<Cube> subcubes(long[] allowed, int size) {
+        final int masks = 1 << size;
+        final int words = Math.max(1, masks >>> 6);
+        long[][] inside = new long[masks][];
+        inside[0] = new long[words];
+        for (long row : allowed) {
+            inside[0][(int) (row >>> 6)] |= 1L << row;
+        }
+
+        for (int mask = 1; mask < masks; mask++) {
+            long[] smaller = inside[mask & (mask - 1)];
+            if (smaller == null)
+                continue;
+            int bit = Integer.lowestOneBit(mask);
+            long[] result = new long[words];
+            boolean any = false;
+            for (int word = 0; word < words; word++) {
+                result[word] = smaller[word] & shiftedRight(smaller, bit, word) & clearBitPattern(bit, word);
+                any |= result[word] != 0;
+            }
+            inside[mask] = any ? result : null;
+        }
+
+        List<Cube> result = new ArrayList<>();
+        long[] maximal = new long[words];
+        for (int mask = 0; mask < masks; mask++) {
+            if (inside[mask] == null)
+                continue;
+            System.arraycopy(inside[mask], 0, maximal, 0, words);
+            for (int free = ~mask & (masks - 1); free != 0; free &= free - 1) {
+                int bit = Integer.lowestOneBit(free);
+                long[] larger = inside[mask | bit];
+                if (larger == null)
+                    continue;
+                for (int word = 0; word < words; word++) {
+                    maximal[word] &= ~(larger[word] | shiftedLeft(larger, bit, word));
+                }
+            }
+            for (int word = 0; word < words; word++) {
+                for (long bits = maximal[word]; bits != 0; bits &= bits - 1) {
+                    result.add(new Cube(((long) word << 6) | Long.numberOfTrailingZeros(bits), mask));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Picks essential groups, then greedily the group over the most uncovered cells, preferring larger groups,
+     * and finally drops any picked group whose cells all ended up covered twice.
+     */
+    private static List<Cube> select(long[] target, List<Cube> groups) {
+        groups.sort(Comparator.comparingLong(Cube::mintermCount).reversed().thenComparing(PrimeGenerator::compare));
+        int[][] cells = new int[groups.size()][];
+        int[] owners = new int[target.length];
+        for (int index = 0; index < cells.length; index++) {
+            cells[index] = positions(groups.get(index), target);
+            for (int position : cells[index]) {
+                owners[position]++;
+            }
+        }
+
+        int[] covered = new int[target.length];
+        int uncovered = target.length;
+        boolean[] picked = new boolean[cells.length];
+        List<Integer> order = new ArrayList<>();
+        for (int index = 0; index < cells.length; index++) {
+            for (int position : cells[index]) {
+                if (owners[position] == 1) {
+                    picked[index] = true;
+                    break;
+                }
+            }
+            if (picked[index]) {
+                order.add(index);
+                uncovered -= cover(cells[index], covered);
+            }
+        }
+
+        // Gains only shrink as cells get covered, so a group whose refreshed gain still tops the queue is the best.
+        PriorityQueue<int[]> queue = new PriorityQueue<>((first, second) ->
+                first[1] != second[1] ? Integer.compare(second[1], first[1]) : Integer.compare(first[0], second[0]));
+        for (int index = 0; index < cells.length; index++) {
+            if (!picked[index]) {
+                queue.add(new int[]{index, cells[index].length});
+            }
+        }
+        while (uncovered > 0) {
+            Cancellation.check();
+            int[] best = queue.poll();
+            int gain = gain(cells[best[0]], covered);
+            if (gain < best[1]) {
+                best[1] = gain;
+                queue.add(best);
+                continue;
+            }
+            picked[best[0]] = true;
+            order.add(best[0]);
+            uncovered -= cover(cells[best[0]], covered);
+        }
+
+        for (int step = order.size() - 1; step >= 0; step--) {
+            int index = order.get(step);
+            if (gain(cells[index], covered) == 0 && isShared(cells[index], covered)) {
+                picked[index] = false;
+                for (int position : cells[index]) {
+                    covered[position]--;
+                }
+            }
+        }
+
+        List<Cube> result = new ArrayList<>();
+        for (int index = 0; index < cells.length; index++) {
+            if (picked[index]) {
+                result.add(groups.get(index));
+            }
+        }
+        result.sort(PrimeGenerator::compare);
+        return result;
+    }
+
+    private static int cover(int[] cells, int[] covered) {
+        int newlyCovered = 0;
+        for (int position : cells) {
+            if (covered[position]++ == 0) {
+                newlyCovered++;
+            }
+        }
+        return newlyCovered;
+    }
+
+    private static int gain(int[] cells, int[] covered) {
+        int gain = 0;
+        for (int position : cells) {
+            if (covered[position] == 0) {
+                gain++;
+            }
+        }
+        return gain;
+    }
+
+    private static boolean isShared(int[] cells, int[] covered) {
+        for (int position : cells) {
+            if (covered[position] < 2)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Lists the positions in {@code target} of the cells a group covers.
+     */
+    private static int[] positions(Cube group, long[] target) {
+        int[] result = new int[(int) Math.min(group.mintermCount(), target.length)];
+        int[] count = {0};
+        if (group.mintermCount() <= target.length) {
+            group.forEachMinterm(minterm -> {
+                int position = Arrays.binarySearch(target, minterm);
+                if (position >= 0) {
+                    result[count[0]++] = position;
+                }
+            });
+        } else {
+            for (int position = 0; position < target.length; position++) {
+                if (group.covers(target[position])) {
+                    result[count[0]++] = position;
+                }
+            }
+        }
+        return Arrays.copyOf(result, count[0]);
+    }
+
+    private static boolean hitsAny(Cube group, long[] target) {
+        return positions(group, target).length > 0;
+    }
+
+    /**
+     * Word {@code word} of {@code bits >>> distance}, reading the bitset as one long number.
+     */
+    private static long shiftedRight(long[] bits, int distance, int word) {
+        int source = word + (distance >>> 6);
+        int shift = distance & 63;
+        if (source >= bits.length)
+            return 0;
+        long result = bits[source] >>> shift;
+        if (shift != 0 && source + 1 < bits.length) {
+            result |= bits[source + 1] << (64 - shift);
+        }
+        return result;
+    }
+
+    /**
+     * Word {@code word} of {@code bits << distance}, reading the bitset as one long number.
+     */
+    private static long shiftedLeft(long[] bits, int distance, int word) {
+        int source = word - (distance >>> 6);
+        int shift = distance & 63;
+        if (source < 0)
+            return 0;
+        long result = bits[source] << shift;
+        if (shift != 0 && source > 0) {
+            result |= bits[source - 1] >>> (64 - shift);
+        }
+        return result;
+    }
+
+    /**
+     * The rows of word {@code word} whose row bit {@code bit} is clear.
+     */
+    private static long clearBitPattern(int bit, int word) {
+        if (bit >= 64)
+            return (word & (bit >>> 6)) == 0 ? -1L : 0L;
+        return ~ROW_BIT_PATTERNS[Integer.numberOfTrailingZeros(bit)];
+    }
+
+    private static final long[] ROW_BIT_PATTERNS = {
+            0xAAAAAAAAAAAAAAAAL,
+            0xCCCCCCCCCCCCCCCCL,
+            0xF0F0F0F0F0F0F0F0L,
+            0xFF00FF00FF00FF00L,
+            0xFFFF0000FFFF0000L,
+            0xFFFFFFFF00000000L
+    };
+
+    public String getKMapFDNF() {
+        return getKMapReduction(false);
+    }
+
+    public String getKMapFCNF() {
+        return getKMapReduction(true);
+    }
+
+    private synchronized String getKMapReduction(boolean FCNF) {
+        String buffered = FCNF ? bufferedFCNF : bufferedFDNF;
+        if (buffered != null)
+            return buffered;
+
+        List<Term> result = new ArrayList<>();
+        for (Cube group : traverseKMap(!FCNF)) {
+            result.add(group.toTerm(operands, !FCNF));
+        }
+        buffered = TruthTable.constructFromList(FCNF, result);
+        if (FCNF) {
+            bufferedFCNF = buffered;
+        } else {
+            bufferedFDNF = buffered;
+        }
+        return buffered;
+    }
+
+    /**
+     * Draws the map as a sheet: the first half of the operands, in Gray code order, label the rows
+     * and the rest label the columns. Don't-cares are shown as {@code -}.
+     */
+    @Override
+    public String toString() {
+        final int rowBits = size - size / 2;
+        final int columnBits = size / 2;
+        final int width = Math.max(columnBits, 1);
+
+        StringBuilder result = new StringBuilder(" ".repeat(Math.max(rowBits, 1)));
+        for (int column = 0; column < 1 << columnBits; column++) {
+            result.append(' ').append(grayLabel(column, columnBits, width));
+        }
+        result.append('\n');
+
+        for (int row = 0; row < 1 << rowBits; row++) {
+            result.append(grayLabel(row, rowBits, Math.max(rowBits, 1)));
+            for (int column = 0; column < 1 << columnBits; column++) {
+                long index = ((long) (row ^ (row >>> 1)) << columnBits) | (column ^ (column >>> 1));
+                String cell = index < table.getRowCount() ? (table.getOutput(index) ? "1" : "0") : "-";
+                result.append(' ').append(" ".repeat(width - 1)).append(cell);
+            }
+            result.append('\n');
+        }
+        return result.toString();
+    }
+
+    private static String grayLabel(int index, int bits, int width) {
+        if (bits == 0)
+            return " ".repeat(width);
+        String binary = Integer.toBinaryString(index ^ (index >>> 1));
+        return "0".repeat(bits - binary.length()) + binary;
+    }
+}
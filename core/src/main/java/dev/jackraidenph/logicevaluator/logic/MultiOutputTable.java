@@ -0,0 +1,229 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.LongStream;
+
+/**
+ * Several output columns over one set of operands, minimized together so that one product term can serve
+ * more than one output. The table is read in a single pass that tags every row with the outputs it belongs to,
+ * the primes of all outputs come out of one tagged {@link PrimeGenerator} run, and a single cover is solved
+ * over every (row, output) pair, where a term costs the same however many outputs use it.
+ * Rows a partial table leaves out are don't-cares for every output.
+ */
+public class MultiOutputTable {
+    public static final int MAX_OUTPUTS = Long.SIZE;
+
+    private final List<String> operands;
+    private final List<String> outputNames;
+    private final long rowCount;
+    private final BitColumn[] outputs;
+    private final List<List<Term>> bufferedFDNF = new ArrayList<>();
+    private final List<List<Term>> bufferedFCNF = new ArrayList<>();
+    private Duration coverBudget = CoverSolver.DEFAULT_BUDGET;
+
+    /**
+     * Takes rows laid out like those of {@link TruthTable#TruthTable(List, List)}, with one column per output
+     * after the operands.
+     */
+    public MultiOutputTable(List<String> operands, List<String> outputNames, List<List<Boolean>> contents) {
+        this(operands, outputNames, contents.size());
+        for (int row = 0; row < rowCount; row++) {
+            for (int output = 0; output < outputs.length; output++) {
+                outputs[output].set(row, contents.get(row).get(operands.size() + output));
+            }
+        }
+    }
+
+    private MultiOutputTable(List<String> operands, List<String> outputNames, long rowCount) {
+        if (outputNames.isEmpty() || outputNames.size() > MAX_OUTPUTS)
+            throw new IllegalArgumentException("A table needs between 1 and " + MAX_OUTPUTS + " outputs!");
+        if (rowCount > 1L << operands.size())
+            throw new IllegalArgumentException("Too many rows for " + operands.size() + " operands!");
+        this.operands = List.copyOf(operands);
+        this.outputNames = List.copyOf(outputNames);
+        this.rowCount = rowCount;
+        this.outputs = new BitColumn[outputNames.size()];
+        for (int output = 0; output < outputs.length; output++) {
+            outputs[output] = BitColumn.onHeap(rowCount);
+        }
+    }
+
+    /**
+     * Joins tables over the same operands and rows into one table with an output per table.
+     */
+    public static MultiOutputTable of(List<String> outputNames, List<TruthTable> tables) {
+        if (outputNames.size() != tables.size())
+            throw new IllegalArgumentException("Every table needs exactly one output name!");
+        TruthTable first = tables.get(0);
+        MultiOutputTable result = new MultiOutputTable(first.getOperands(), outputNames, first.getRowCount());
+        for (int output = 0; output < tables.size(); output++) {
+            TruthTable table = tables.get(output);
+            if (!table.getOperands().equals(first.getOperands()) || table.getRowCount() != first.getRowCount())
+                throw new IllegalArgumentException("Tables of one circuit must share their operands and rows!");
+            BitColumn column = result.outputs[output];
+            table.minterms(true).forEach(row -> column.set(row, true));
+        }
+        return result;
+    }
+
+    public List<String> getOperands() {
+        return operands;
+    }
+
+    public List<String> getOutputNames() {
+        return outputNames;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public boolean getOutput(long row, int output) {
+        return outputs[output].get(row);
+    }
+
+    public String getFDNF(int output) {
+        return TruthTable.constructFromList(false, minimize(false).get(output));
+    }
+
+    public String getFCNF(int output) {
+        return TruthTable.constructFromList(true, minimize(true).get(output));
+    }
+
+    /**
+     * Counts the distinct terms of the minimized forms, a term used by several outputs counting once.
+     */
+    public int getTermCount(boolean FCNF) {
+        Set<Term> distinct = new HashSet<>();
+        for (List<Term> terms : minimize(FCNF)) {
+            distinct.addAll(terms);
+        }
+        return distinct.size();
+    }
+
+    /**
+     * Returns, for every output, the terms of its minimal form. Terms that appear in several lists are shared.
+     */
+    public synchronized List<List<Term>> minimize(boolean FCNF) {
+        List<List<Term>> resultBuffer = FCNF ? bufferedFCNF : bufferedFDNF;
+        if (!resultBuffer.isEmpty())
+            return resultBuffer;
+
+        final int size = operands.size();
+        long[][] targets = new long[outputs.length][];
+        LongStream.Builder[] targetBuilders = new LongStream.Builder[outputs.length];
+        Arrays.setAll(targetBuilders, output -> LongStream.builder());
+        LongStream.Builder minterms = LongStream.builder();
+        LongStream.Builder tags = LongStream.builder();
+
+        long[] words = new long[outputs.length];
+        for (long word = 0; word < (rowCount + 63) >>> 6; word++) {
+            for (int output = 0; output < outputs.length; output++) {
+                words[output] = (FCNF ? ~outputs[output].getWord(word) : outputs[output].getWord(word))
+                        & BitColumn.validMask(rowCount, word);
+            }
+            for (int bit = 0; bit < 64 && (word << 6) + bit < rowCount; bit++) {
+                long row = (word << 6) + bit;
+                long tag = 0;
+                for (int output = 0; output < outputs.length; output++) {
+                    if ((words[output] >>> bit & 1) != 0) {
+                        tag |= 1L << output;
+                        targetBuilders[output].add(row);
+                    }
+                }
+                if (tag != 0) {
+                    minterms.add(row);
+                    tags.add(tag);
+                }
+            }
+        }
+        long everyOutput = outputs.length == MAX_OUTPUTS ? -1L : (1L << outputs.length) - 1;
+        for (long row = rowCount; row < 1L << size; row++) {
+            minterms.add(row);
+            tags.add(everyOutput);
+        }
+        for (int output = 0; output < outputs.length; output++) {
+            targets[output] = targetBuilders[output].build().toArray();
+        }
+
+        List<TaggedCube> primes = PrimeGenerator.generate(minterms.build().toArray(), tags.build().toArray(), size);
+        List<TaggedCube> cover = solveCover(primes, targets, size);
+
+        // A chosen term may be tagged with an output that the rest of the cover already serves.
+        for (int output = 0; output < outputs.length; output++) {
+            List<Cube> candidates = new ArrayList<>();
+            for (TaggedCube term : cover) {
+                if (term.hasOutput(output) && !positions(term.cube(), targets[output]).isEmpty()) {
+                    candidates.add(term.cube());
+                }
+            }
+            List<Term> terms = new ArrayList<>();
+            for (Cube cube : TruthTable.dropRedundant(candidates, targets[output])) {
+                terms.add(cube.toTerm(operands, !FCNF));
+            }
+            resultBuffer.add(terms);
+        }
+        return resultBuffer;
+    }
+
+    private List<TaggedCube> solveCover(List<TaggedCube> primes, long[][] targets, int size) {
+        int[] offsets = new int[targets.length + 1];
+        for (int output = 0; output < targets.length; output++) {
+            offsets[output + 1] = offsets[output] + targets[output].length;
+        }
+
+        int[][] columnRows = new int[primes.size()][];
+        int[] literals = new int[primes.size()];
+        for (int column = 0; column < columnRows.length; column++) {
+            TaggedCube prime = primes.get(column);
+            List<Integer> rows = new ArrayList<>();
+            for (int output = 0; output < targets.length; output++) {
+                if (prime.hasOutput(output)) {
+                    for (int position : positions(prime.cube(), targets[output])) {
+                        rows.add(offsets[output] + position);
+                    }
+                }
+            }
+            columnRows[column] = rows.stream().mapToInt(Integer::intValue).toArray();
+            literals[column] = prime.cube().literalCount(size);
+        }
+
+        List<TaggedCube> result = new ArrayList<>();
+        for (int column : CoverSolver.solve(offsets[targets.length], columnRows, literals, coverBudget)) {
+            result.add(primes.get(column));
+        }
+        return result;
+    }
+
+    /**
+     * Lists the positions in sorted {@code rows} of the rows a cube covers.
+     */
+    private static List<Integer> positions(Cube cube, long[] rows) {
+        List<Integer> result = new ArrayList<>();
+        if (cube.mintermCount() < rows.length) {
+            cube.forEachMinterm(row -> {
+                int position = Arrays.binarySearch(rows, row);
+                if (position >= 0) {
+                    result.add(position);
+                }
+            });
+        } else {
+            for (int position = 0; position < rows.length; position++) {
+                if (cube.covers(rows[position])) {
+                    result.add(position);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Limits the time the joint cover search may spend before it settles for the best cover found so far.
+     */
+    public synchronized void setCoverBudget(Duration budget) {
+        coverBudget = budget;
+        bufferedFDNF.clear();
+        bufferedFCNF.clear();
+    }
+}
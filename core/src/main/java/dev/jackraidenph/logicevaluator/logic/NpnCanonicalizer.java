@@ -0,0 +1,116 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+/**
+ * Finds the NPN representative of a function of up to six inputs, given as a single 64-row word:
+ * the smallest table reachable by permuting inputs, complementing inputs and complementing the output.
+ * Permutations are walked with Heap's algorithm and input phases in Gray code order, so every step is
+ * a single swap or complement done with shifts on the word, and all n! 2^n 2 variants are checked.
+ */
+public class NpnCanonicalizer {
+    public static final int MAX_INPUTS = 6;
+
+    private static final long[] LANE_PATTERNS = {
+            0xAAAAAAAAAAAAAAAAL,
+            0xCCCCCCCCCCCCCCCCL,
+            0xF0F0F0F0F0F0F0F0L,
+            0xFF00FF00FF00FF00L,
+            0xFFFF0000FFFF0000L,
+            0xFFFFFFFF00000000L
+    };
+
+    private final int size;
+    private final long valid;
+    private final int[] sources;
+    private long table;
+    private long negations;
+
+    private long best;
+    private int[] bestSources;
+    private long bestNegations;
+    private boolean bestOutputNegation;
+
+    private NpnCanonicalizer(long table, int size) {
+        this.size = size;
+        this.valid = BitColumn.validMask(1L << size, 0);
+        this.table = table & valid;
+        this.sources = new int[size];
+        for (int input = 0; input < size; input++) {
+            sources[input] = input;
+        }
+        this.best = this.table;
+        this.bestSources = sources.clone();
+    }
+
+    public record Result(long representative, NpnTransform transform) {
+    }
+
+    public static Result canonicalize(long table, int size) {
+        if (size < 0 || size > MAX_INPUTS)
+            throw new IllegalArgumentException("NPN canonicalization supports up to " + MAX_INPUTS + " inputs");
+        NpnCanonicalizer search = new NpnCanonicalizer(table, size);
+        search.run();
+        return new Result(search.best,
+                new NpnTransform(search.bestSources, search.bestNegations, search.bestOutputNegation));
+    }
+
+    private void run() {
+        visitPhases();
+        int[] counters = new int[size];
+        for (int index = 1; index < size; ) {
+            if (counters[index] < index) {
+                swap(index % 2 == 0 ? 0 : counters[index], index);
+                visitPhases();
+                counters[index]++;
+                index = 1;
+            } else {
+                counters[index] = 0;
+                index++;
+            }
+        }
+    }
+
+    private void visitPhases() {
+        visit();
+        for (int step = 1; step < 1 << size; step++) {
+            complement(Integer.numberOfTrailingZeros(step));
+            visit();
+        }
+    }
+
+    private void visit() {
+        consider(table, false);
+        consider(~table & valid, true);
+    }
+
+    private void consider(long candidate, boolean outputNegation) {
+        if (Long.compareUnsigned(candidate, best) < 0) {
+            best = candidate;
+            bestSources = sources.clone();
+            bestNegations = negations;
+            bestOutputNegation = outputNegation;
+        }
+    }
+
+    private void complement(int input) {
+        int shift = 1 << input;
+        long lanes = LANE_PATTERNS[input];
+        table = ((table & lanes) >>> shift) | ((table & ~lanes) << shift);
+        negations ^= 1L << input;
+    }
+
+    private void swap(int first, int second) {
+        if (first == second)
+            return;
+        int low = Math.min(first, second);
+        int high = Math.max(first, second);
+        int shift = (1 << high) - (1 << low);
+        long moving = LANE_PATTERNS[low] & ~LANE_PATTERNS[high];
+        table = (table & ~(moving | (moving << shift))) | ((table & moving) << shift) | ((table >>> shift) & moving);
+
+        int source = sources[low];
+        sources[low] = sources[high];
+        sources[high] = source;
+        long differ = ((negations >>> low) ^ (negations >>> high)) & 1;
+        negations ^= (differ << low) | (differ << high);
+    }
+}
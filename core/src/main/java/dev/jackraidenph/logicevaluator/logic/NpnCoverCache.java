@@ -0,0 +1,129 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * A bounded LRU cache of minimized covers per NPN class. A lookup canonicalizes the function, minimizes the
+ * representative once, and maps the stored cover back through the transform. NPN transforms keep the number
+ * of terms and literals, so a cover that is minimal for the representative is minimal for every member.
+ */
+public class NpnCoverCache {
+    public static final NpnCoverCache SHARED = new NpnCoverCache(1 << 12);
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Entry> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public NpnCoverCache(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if (size() <= NpnCoverCache.this.capacity)
+                    return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    public static boolean supports(int size) {
+        return size <= NpnCanonicalizer.MAX_INPUTS;
+    }
+
+    /**
+     * Returns a minimal cover of the on-set, or of the off-set when {@code FCNF} is set, in the order
+     * {@link PrimeGenerator} would list the primes. A stored cover is reused by callers with at most the budget
+     * it was searched with; a caller with a larger budget searches again and replaces it.
+     */
+    public List<Cube> quineMcCluskey(long table, int size, boolean FCNF, Duration budget) {
+        NpnCanonicalizer.Result canonical = NpnCanonicalizer.canonicalize(table, size);
+        boolean offSet = FCNF != canonical.transform().outputNegation();
+        List<Cube> result = toOriginal(entry(canonical.representative(), size).minimal(offSet, budget), canonical);
+        result.sort(PrimeGenerator::compare);
+        return result;
+    }
+
+    private static List<Cube> toOriginal(List<Cube> cover, NpnCanonicalizer.Result canonical) {
+        List<Cube> result = new ArrayList<>(cover.size());
+        for (Cube cube : cover) {
+            result.add(canonical.transform().toOriginal(cube));
+        }
+        return result;
+    }
+
+    private Entry entry(long representative, int size) {
+        Key key = new Key(representative, size);
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                misses++;
+                entry = new Entry(representative, size);
+                entries.put(key, entry);
+            } else {
+                hits++;
+            }
+            return entry;
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public CacheStatistics getStatistics() {
+        synchronized (entries) {
+            return new CacheStatistics(hits, misses, evictions, entries.size());
+        }
+    }
+
+    private record Key(long representative, int size) {
+    }
+
+    private static class Entry {
+        private final long representative;
+        private final int size;
+        private List<Cube> minimalOnSet;
+        private List<Cube> minimalOffSet;
+        private Duration onSetBudget;
+        private Duration offSetBudget;
+
+        private Entry(long representative, int size) {
+            this.representative = representative;
+            this.size = size;
+        }
+
+        private synchronized List<Cube> minimal(boolean offSet, Duration budget) {
+            Duration searched = offSet ? offSetBudget : onSetBudget;
+            if (searched == null || searched.compareTo(budget) < 0) {
+                long[] minterms = minterms(offSet);
+                List<Cube> cover = CoverSolver.solve(minterms, PrimeGenerator.generate(minterms, size), size, budget);
+                if (offSet) {
+                    minimalOffSet = cover;
+                    offSetBudget = budget;
+                } else {
+                    minimalOnSet = cover;
+                    onSetBudget = budget;
+                }
+            }
+            return offSet ? minimalOffSet : minimalOnSet;
+        }
+
+        private long[] minterms(boolean offSet) {
+            long rows = offSet ? ~representative : representative;
+            rows &= BitColumn.validMask(1L << size, 0);
+            long[] result = new long[Long.bitCount(rows)];
+            for (int index = 0; rows != 0; rows &= rows - 1) {
+                result[index++] = Long.numberOfTrailingZeros(rows);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+/**
+ * Relates a function to its NPN representative. Input {@code k} of the representative reads input
+ * {@code sources[k]} of the original, complemented when bit {@code k} of {@code inputNegations} is set,
+ * and the representative's output is complemented when {@code outputNegation} holds.
+ * Inputs are numbered by row-index bit, as in {@link Cube}.
+ */
+public record NpnTransform(int[] sources, long inputNegations, boolean outputNegation) {
+
+    /**
+     * Maps a cube over the representative's inputs back onto the original inputs. The result covers the
+     * original's on-set where the cube covered the representative's on-set, unless {@link #outputNegation()} holds,
+     * in which case on-set and off-set trade places.
+     */
+    public Cube toOriginal(Cube cube) {
+        long value = 0;
+        long mask = 0;
+        for (int input = 0; input < sources.length; input++) {
+            long bit = 1L << sources[input];
+            if ((cube.mask() & (1L << input)) != 0) {
+                mask |= bit;
+            } else if ((((cube.value() ^ inputNegations) >>> input) & 1) != 0) {
+                value |= bit;
+            }
+        }
+        return new Cube(value, mask);
+    }
+}
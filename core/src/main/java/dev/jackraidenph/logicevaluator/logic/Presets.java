@@ -0,0 +1,150 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * The example functions offered in the preset list: a full adder and the outputs of two counter circuits.
+ * Every call to {@link #create(String)} builds a fresh table, so forms buffered by one user of a preset
+ * never leak into another. The outputs of one circuit can also be had together as a {@link MultiOutputTable}.
+ */
+public class Presets {
+    private static final Map<String, Supplier<TruthTable>> PRESETS = new LinkedHashMap<>() {{
+        put("SUM_VAL", () -> new TruthTable("(A^B)^C"));
+        put("SUM_CARRY", () -> new TruthTable("(A*B)+(C*(A^B))"));
+        put("8421E9O8", () -> new TruthTable(
+                List.of(new String[]{"A", "B", "C", "D"}), new ArrayList<>() {{
+            add(List.of(false, false, false, false, true));
+            add(List.of(false, false, false, true, true));
+            add(List.of(false, false, true, false, true));
+            add(List.of(false, false, true, true, true));
+            add(List.of(false, true, false, false, true));
+            add(List.of(false, true, false, true, true));
+            add(List.of(false, true, true, false, true));
+        }}));
+        put("8421E9O4", () -> new TruthTable(
+                List.of(new String[]{"A", "B", "C", "D"}), new ArrayList<>() {{
+            add(List.of(false, false, false, false, false));
+            add(List.of(false, false, false, true, false));
+            add(List.of(false, false, true, false, false));
+            add(List.of(false, false, true, true, true));
+            add(List.of(false, true, false, false, true));
+            add(List.of(false, true, false, true, true));
+            add(List.of(false, true, true, false, true));
+        }}));
+        put("8421E9O2", () -> new TruthTable(
+                List.of(new String[]{"A", "B", "C", "D"}), new ArrayList<>() {{
+            add(List.of(false, false, false, false, false));
+            add(List.of(false, false, false, true, true));
+            add(List.of(false, false, true, false, true));
+            add(List.of(false, false, true, true, false));
+            add(List.of(false, true, false, false, false));
+            add(List.of(false, true, false, true, true));
+            add(List.of(false, true, true, false, true));
+        }}));
+        put("8421E9O1", () -> new TruthTable(
+                List.of(new String[]{"A", "B", "C", "D"}), new ArrayList<>() {{
+            add(List.of(false, false, false, false, true));
+            add(List.of(false, false, false, true, false));
+            add(List.of(false, false, true, false, true));
+            add(List.of(false, false, true, true, false));
+            add(List.of(false, true, false, false, true));
+            add(List.of(false, true, false, true, false));
+            add(List.of(false, true, true, false, true));
+        }}));
+        put("16SUBH4", () -> new TruthTable(List.of(new String[]{"q4p", "q3p", "q2p", "q1p", "V"}),
+                makeTable(0)));
+        put("16SUBH3", () -> new TruthTable(List.of(new String[]{"q4p", "q3p", "q2p", "q1p", "V"}),
+                makeTable(1)));
+        put("16SUBH2", () -> new TruthTable(List.of(new String[]{"q4p", "q3p", "q2p", "q1p", "V"}),
+                makeTable(2)));
+        put("16SUBH1", () -> new TruthTable(List.of(new String[]{"q4p", "q3p", "q2p", "q1p", "V"}),
+                makeTable(3)));
+    }};
+    private static final Map<String, List<String>> CIRCUITS = new LinkedHashMap<>() {{
+        put("SUM", List.of("SUM_VAL", "SUM_CARRY"));
+        put("8421E9O", List.of("8421E9O8", "8421E9O4", "8421E9O2", "8421E9O1"));
+        put("16SUBH", List.of("16SUBH4", "16SUBH3", "16SUBH2", "16SUBH1"));
+    }};
+
+    private Presets() {
+    }
+
+    public static Set<String> names() {
+        return Collections.unmodifiableSet(PRESETS.keySet());
+    }
+
+    public static TruthTable create(String name) {
+        Supplier<TruthTable> preset = PRESETS.get(name);
+        if (preset == null)
+            throw new IllegalArgumentException("Unknown preset: " + name);
+        return preset.get();
+    }
+
+    public static Set<String> circuitNames() {
+        return Collections.unmodifiableSet(CIRCUITS.keySet());
+    }
+
+    public static MultiOutputTable createCircuit(String name) {
+        List<String> outputs = CIRCUITS.get(name);
+        if (outputs == null)
+            throw new IllegalArgumentException("Unknown circuit: " + name);
+        return MultiOutputTable.of(outputs, outputs.stream().map(Presets::create).toList());
+    }
+
+    private static boolean[] decrement(boolean[] subtractFrom) {
+        boolean v1, v2, v3, B = false;
+        boolean[] X = new boolean[4];
+        boolean[] Y = new boolean[4];
+        System.arraycopy(subtractFrom, 0, X, 0, 4);
+        System.arraycopy(new boolean[]{true, false, false, false}, 0, Y, 0, 4);
+        for (int i = 0; i < 4; i++) {
+            v1 = X[i] ^ Y[i];
+            v2 = !X[i] & Y[i];
+            v3 = !v1 & B;
+            X[i] = v1 ^ B;
+            B = v2 | v3;
+        }
+        return X;
+    }
+
+    private static boolean[] magnitudeToBinary(Integer integer) {
+        integer = Math.abs(integer);
+        boolean[] out = new boolean[4];
+        for (int i = 0; i < 4; i++)
+            out[i] = (integer & (1 << i)) != 0;
+        return out;
+    }
+
+    private static List<List<Boolean>> makeTable(int h) {
+        List<List<Boolean>> table = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            for (boolean bool : new boolean[]{false, true}) {
+                List<Boolean> row = new ArrayList<>();
+
+                boolean[] prev = magnitudeToBinary(i);
+                for (boolean qtp : prev) {
+                    row.add(qtp);
+                }
+                Collections.reverse(row);
+
+                row.add(bool);
+
+                for (boolean qtp : (bool ? decrement(prev) : prev)) {
+                    row.add(qtp);
+                }
+                Collections.reverse(row.subList(5, 9));
+
+                row.add((row.get(h) != row.get(h + 5)) && bool);
+
+                row.remove(5);
+                row.remove(5);
+                row.remove(5);
+                row.remove(5);
+
+                table.add(row);
+            }
+        }
+        return table;
+    }
+}
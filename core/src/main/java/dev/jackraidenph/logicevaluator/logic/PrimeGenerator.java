@@ -0,0 +1,108 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Quine-McCluskey prime implicant generation over (value, mask) cubes.
+ * Each pass groups the cubes by the popcount of their value and merges cubes that differ in a single bit:
+ * the partner of a cube is looked up by hash in the next group, so a pass costs O(cubes * variables)
+ * instead of comparing every pair. Cubes that take part in no merge are prime.
+ */
+public class PrimeGenerator {
+
+    private PrimeGenerator() {
+    }
+
+    public static List<Cube> generate(long[] minterms, int size) {
+        List<Cube> primes = new ArrayList<>();
+        generate(minterms, null, size, (value, mask, tag) -> primes.add(new Cube(value, mask)));
+        primes.sort(PrimeGenerator::compare);
+        return primes;
+    }
+
+    /**
+     * Generates the primes of several functions at once. {@code tags} holds, for every minterm, the functions
+     * it belongs to as bits. A merged cube belongs to the functions both halves belong to, and a cube only
+     * stops being prime when a merge keeps all of its functions, so every cube comes out tagged with the
+     * largest set of functions it is a prime implicant of all of.
+     */
+    public static List<TaggedCube> generate(long[] minterms, long[] tags, int size) {
+        List<TaggedCube> primes = new ArrayList<>();
+        generate(minterms, tags, size, (value, mask, tag) -> primes.add(new TaggedCube(new Cube(value, mask), tag)));
+        primes.sort((first, second) -> compare(first.cube(), second.cube()));
+        return primes;
+    }
+
+    private interface PrimeSink {
+        void accept(long value, long mask, long tag);
+    }
+
+    private static void generate(long[] minterms, long[] tags, int size, PrimeSink primes) {
+        final long domain = Cube.sizeMask(size);
+
+        CubeSet[] groups = new CubeSet[size + 2];
+        for (int index = 0; index < minterms.length; index++) {
+            long tag = tags == null ? 1L : tags[index];
+            if (tag != 0) {
+                group(groups, minterms[index]).add(minterms[index], 0L, tag);
+            }
+        }
+
+        boolean merging = true;
+        while (merging) {
+            merging = false;
+            CubeSet[] next = new CubeSet[size + 2];
+            for (int level = 0; level <= size; level++) {
+                Cancellation.check();
+                CubeSet group = groups[level];
+                CubeSet nextGroup = groups[level + 1];
+                if (group == null)
+                    continue;
+                for (int slot = 0; slot < group.capacity(); slot++) {
+                    if (!group.isUsed(slot))
+                        continue;
+                    long value = group.value(slot);
+                    long mask = group.mask(slot);
+                    long tag = group.tag(slot);
+                    if (nextGroup != null) {
+                        for (long free = domain & ~mask & ~value; free != 0; free &= free - 1) {
+                            long bit = Long.lowestOneBit(free);
+                            int partner = nextGroup.indexOf(value | bit, mask);
+                            if (partner < 0)
+                                continue;
+                            long merged = tag & nextGroup.tag(partner);
+                            if (merged == 0)
+                                continue;
+                            group(next, value).add(value, mask | bit, merged);
+                            merging = true;
+                            if (merged == tag) {
+                                group.mark(slot);
+                            }
+                            if (merged == nextGroup.tag(partner)) {
+                                nextGroup.mark(partner);
+                            }
+                        }
+                    }
+                    if (!group.isMarked(slot)) {
+                        primes.accept(value, mask, tag);
+                    }
+                }
+            }
+            groups = next;
+        }
+    }
+
+    private static CubeSet group(CubeSet[] groups, long value) {
+        int level = Long.bitCount(value);
+        if (groups[level] == null) {
+            groups[level] = new CubeSet();
+        }
+        return groups[level];
+    }
+
+    static int compare(Cube first, Cube second) {
+        int byMask = Long.compareUnsigned(first.mask(), second.mask());
+        return byMask != 0 ? byMask : Long.compareUnsigned(first.value(), second.value());
+    }
+}
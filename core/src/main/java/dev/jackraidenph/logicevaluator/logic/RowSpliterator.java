@@ -0,0 +1,102 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Yields, in ascending order, the indices of the rows in {@code [from, to)} whose output equals {@code ones}.
+ * Outputs are pulled 64 rows at a time from a word source, so only a single word is held per spliterator.
+ * The supplier is asked for a fresh source on every split, which lets stateful evaluators stay thread-confined.
+ * Every word checks for {@link Cancellation}, so the forms that list rows stop once their thread is interrupted.
+ */
+public class RowSpliterator implements Spliterator.OfLong {
+    private final Supplier<LongUnaryOperator> sources;
+    private final LongUnaryOperator words;
+    private final boolean ones;
+    private final long end;
+    private long row;
+    private long pending;
+    private long pendingBase;
+
+    public RowSpliterator(Supplier<LongUnaryOperator> sources, long from, long to, boolean ones) {
+        this.sources = sources;
+        this.words = sources.get();
+        this.ones = ones;
+        this.row = from;
+        this.end = to;
+    }
+
+    private boolean load() {
+        while (pending == 0) {
+            if (row >= end)
+                return false;
+
+            Cancellation.check();
+            long wordIndex = row >>> 6;
+            long wordEnd = (wordIndex + 1) << 6;
+            long word = words.applyAsLong(wordIndex);
+            if (!ones) {
+                word = ~word;
+            }
+            word &= -1L << (row & 63);
+            if (end < wordEnd) {
+                word &= (1L << (end & 63)) - 1;
+            }
+
+            pending = word;
+            pendingBase = wordIndex << 6;
+            row = wordEnd;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (!load())
+            return false;
+        long next = pendingBase + Long.numberOfTrailingZeros(pending);
+        pending &= pending - 1;
+        action.accept(next);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        while (load()) {
+            while (pending != 0) {
+                action.accept(pendingBase + Long.numberOfTrailingZeros(pending));
+                pending &= pending - 1;
+            }
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        if (pending != 0)
+            return null;
+        long middle = ((row + end) >>> 1) & ~63L;
+        if (middle <= row)
+            return null;
+        RowSpliterator prefix = new RowSpliterator(sources, row, middle, ones);
+        row = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Math.max(0, end - row) + Long.bitCount(pending);
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | SORTED | NONNULL | IMMUTABLE;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+        return null;
+    }
+}
@@ -0,0 +1,635 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import dev.jackraidenph.logicevaluator.utility.Operation;
+import dev.jackraidenph.logicevaluator.utility.ProcessingSequence;
+
+import java.util.*;
+
+/**
+ * Answers satisfiability, tautology and equivalence questions about expressions with a conflict-driven clause
+ * learning SAT solver, so no truth table is ever enumerated. An expression is Tseitin-encoded from its compiled
+ * sequence: every AND, OR, XOR and implication node gets a variable tied to its inputs by a few clauses.
+ * Gates are hash-consed across the expressions of one question, so structure two expressions share is
+ * encoded once and an equivalence check only has to reason about where they differ.
+ * <p>
+ * The search is the usual CDCL loop: unit propagation over two watched literals, first-UIP conflict analysis
+ * with learned clause minimization, VSIDS branching with saved phases, Luby restarts, and periodic deletion of
+ * learned clauses with a high literal block distance. Variable {@code v} has the literals {@code 2v} and
+ * {@code 2v + 1} for its negation; variable 0 is the constant true. Every question builds a fresh solver.
+ */
+public class SatSolver {
+    private static final int TRUE = 0;
+    private static final int FALSE = 1;
+    private static final int NONE = -1;
+    private static final int RESTART_UNIT = 100;
+    private static final double VARIABLE_DECAY = 0.95;
+
+    private int variableCount;
+    private byte[] assigns = new byte[64];
+    private int[] levels = new int[64];
+    private int[] reasons = new int[64];
+    private boolean[] phases = new boolean[64];
+    private double[] activity = new double[64];
+    private boolean[] seen = new boolean[64];
+    private double variableIncrement = 1;
+
+    private int[] trail = new int[64];
+    private int trailSize;
+    private int propagated;
+    private int[] trailLimits = new int[64];
+    private int decisionLevel;
+
+    private int[][] clauses = new int[256][];
+    private int[] blockDistances = new int[256];
+    private boolean[] learned = new boolean[256];
+    private int clauseCount;
+    private int learnedCount;
+    private int learnedLimit;
+
+    /**
+     * Per literal, pairs of a clause watching it and a blocker, another literal of that clause: while the blocker
+     * is true the clause needn't be read at all.
+     */
+    private int[][] watches = new int[128][];
+    private int[] watchSizes = new int[128];
+
+    private int[] heap = new int[64];
+    private int[] heapIndices = new int[64];
+    private int heapSize;
+
+    private final Map<String, Integer> variables = new HashMap<>();
+    private final Map<Gate, Integer> gates = new HashMap<>();
+    private boolean unsatisfiable;
+    private long conflicts;
+
+    private SatSolver() {
+        newVariable();
+        addClause(TRUE);
+    }
+
+    public static boolean isSatisfiable(String expression) {
+        return satisfyingAssignment(expression).isPresent();
+    }
+
+    public static boolean isTautology(String expression) {
+        return falsifyingAssignment(expression).isEmpty();
+    }
+
+    public static boolean equivalent(String first, String second) {
+        return counterexample(first, second).isEmpty();
+    }
+
+    /**
+     * Finds an assignment of every operand of the expression, in sorted order, under which it is true.
+     */
+    public static Optional<Map<String, Boolean>> satisfyingAssignment(String expression) {
+        SatSolver solver = new SatSolver();
+        ProcessingSequence sequence = ProcessingSequence.fromString(expression);
+        solver.addClause(solver.encode(sequence));
+        return solver.solve(sequence.getOperands());
+    }
+
+    /**
+     * Finds an assignment of every operand of the expression, in sorted order, under which it is false.
+     */
+    public static Optional<Map<String, Boolean>> falsifyingAssignment(String expression) {
+        SatSolver solver = new SatSolver();
+        ProcessingSequence sequence = ProcessingSequence.fromString(expression);
+        solver.addClause(solver.encode(sequence) ^ 1);
+        return solver.solve(sequence.getOperands());
+    }
+
+    /**
+     * Finds an assignment of the operands of both expressions, in sorted order, under which they differ.
+     * An operand only one of them reads is still listed, as either value of it will do for the other.
+     */
+    public static Optional<Map<String, Boolean>> counterexample(String first, String second) {
+        SatSolver solver = new SatSolver();
+        ProcessingSequence firstSequence = ProcessingSequence.fromString(first);
+        ProcessingSequence secondSequence = ProcessingSequence.fromString(second);
+        solver.addClause(solver.xor(solver.encode(firstSequence), solver.encode(secondSequence)));
+        SortedSet<String> operands = new TreeSet<>(firstSequence.getOperands());
+        operands.addAll(secondSequence.getOperands());
+        return solver.solve(List.copyOf(operands));
+    }
+
+    private Optional<Map<String, Boolean>> solve(List<String> operands) {
+        if (!search())
+            return Optional.empty();
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        for (String operand : operands) {
+            Integer variable = variables.get(operand);
+            result.put(operand, variable != null && assigns[variable] > 0);
+        }
+        return Optional.of(result);
+    }
+
+    /**
+     * Returns the literal that is true exactly when the expression is.
+     */
+    private int encode(ProcessingSequence sequence) {
+        int[] operands = sequence.getOperands().stream()
+                .mapToInt(operand -> variables.computeIfAbsent(operand, name -> newVariable()) << 1)
+                .toArray();
+        return sequence.fold(new ProcessingSequence.Folder<Integer>() {
+            @Override
+            public Integer operand(int index) {
+                return operands[index];
+            }
+
+            @Override
+            public Integer constant(boolean value) {
+                return value ? TRUE : FALSE;
+            }
+
+            @Override
+            public Integer apply(Operation operation, Integer first, Integer second) {
+                return switch (operation) {
+                    case NOT -> first ^ 1;
+                    case AND -> and(first, second);
+                    case OR -> and(first ^ 1, second ^ 1) ^ 1;
+                    case XOR -> xor(first, second);
+                    case IMPL -> and(first ^ 1, second) ^ 1;
+                    case OPEN, CLOSE -> FALSE;
+                };
+            }
+        });
+    }
+
+    private int and(int first, int second) {
+        if (first > second)
+            return and(second, first);
+        if (first == second || first == TRUE)
+            return second;
+        if (first == FALSE || first == (second ^ 1))
+            return FALSE;
+        Gate key = new Gate(false, first, second);
+        Integer known = gates.get(key);
+        if (known != null)
+            return known;
+        int gate = newVariable() << 1;
+        addClause(gate ^ 1, first);
+        addClause(gate ^ 1, second);
+        addClause(gate, first ^ 1, second ^ 1);
+        gates.put(key, gate);
+        return gate;
+    }
+
+    /**
+     * Pulls the signs out of both inputs first, so a gate is shared by all four ways of negating them.
+     */
+    private int xor(int first, int second) {
+        int sign = (first ^ second) & 1;
+        first &= ~1;
+        second &= ~1;
+        if (first > second) {
+            int swap = first;
+            first = second;
+            second = swap;
+        }
+        if (first == second)
+            return FALSE ^ sign;
+        if (first == TRUE)
+            return second ^ 1 ^ sign;
+        Gate key = new Gate(true, first, second);
+        Integer known = gates.get(key);
+        if (known == null) {
+            int gate = newVariable() << 1;
+            addClause(gate ^ 1, first, second);
+            addClause(gate ^ 1, first ^ 1, second ^ 1);
+            addClause(gate, first ^ 1, second);
+            addClause(gate, first, second ^ 1);
+            gates.put(key, gate);
+            known = gate;
+        }
+        return known ^ sign;
+    }
+
+    private int newVariable() {
+        int variable = variableCount++;
+        if (variable == assigns.length) {
+            int capacity = assigns.length << 1;
+            assigns = Arrays.copyOf(assigns, capacity);
+            levels = Arrays.copyOf(levels, capacity);
+            reasons = Arrays.copyOf(reasons, capacity);
+            phases = Arrays.copyOf(phases, capacity);
+            activity = Arrays.copyOf(activity, capacity);
+            seen = Arrays.copyOf(seen, capacity);
+            trail = Arrays.copyOf(trail, capacity);
+            trailLimits = Arrays.copyOf(trailLimits, capacity);
+            heap = Arrays.copyOf(heap, capacity);
+            heapIndices = Arrays.copyOf(heapIndices, capacity);
+            watches = Arrays.copyOf(watches, capacity << 1);
+            watchSizes = Arrays.copyOf(watchSizes, capacity << 1);
+        }
+        reasons[variable] = NONE;
+        heapIndices[variable] = NONE;
+        watches[variable << 1] = new int[8];
+        watches[variable << 1 | 1] = new int[8];
+        return variable;
+    }
+
+    /**
+     * Adds a clause of the problem, which happens before the search starts: literals already fixed at the top
+     * level are dropped or satisfy the clause, and a unit clause is assigned right away.
+     */
+    private void addClause(int... literals) {
+        int[] clause = literals.clone();
+        Arrays.sort(clause);
+        int kept = 0;
+        for (int index = 0; index < clause.length; index++) {
+            int literal = clause[index];
+            if (value(literal) > 0 || index + 1 < clause.length && clause[index + 1] == (literal ^ 1))
+                return;
+            if (value(literal) == 0 && (kept == 0 || clause[kept - 1] != literal)) {
+                clause[kept++] = literal;
+            }
+        }
+        if (kept == 0) {
+            unsatisfiable = true;
+        } else if (kept == 1) {
+            assign(clause[0], NONE);
+            unsatisfiable |= propagate() != NONE;
+        } else {
+            attach(Arrays.copyOf(clause, kept), false, 0);
+        }
+    }
+
+    private int attach(int[] literals, boolean isLearned, int blockDistance) {
+        if (clauseCount == clauses.length) {
+            clauses = Arrays.copyOf(clauses, clauseCount << 1);
+            blockDistances = Arrays.copyOf(blockDistances, clauseCount << 1);
+            learned = Arrays.copyOf(learned, clauseCount << 1);
+        }
+        int clause = clauseCount++;
+        clauses[clause] = literals;
+        blockDistances[clause] = blockDistance;
+        learned[clause] = isLearned;
+        if (isLearned) {
+            learnedCount++;
+        }
+        watch(literals[0], clause, literals[1]);
+        watch(literals[1], clause, literals[0]);
+        return clause;
+    }
+
+    private void watch(int literal, int clause, int blocker) {
+        if (watchSizes[literal] == watches[literal].length) {
+            watches[literal] = Arrays.copyOf(watches[literal], watchSizes[literal] << 1);
+        }
+        watches[literal][watchSizes[literal]++] = clause;
+        watches[literal][watchSizes[literal]++] = blocker;
+    }
+
+    /**
+     * @return 1 if the literal is true, -1 if it is false and 0 while its variable is unassigned
+     */
+    private int value(int literal) {
+        int value = assigns[literal >> 1];
+        return (literal & 1) == 0 ? value : -value;
+    }
+
+    private void assign(int literal, int reason) {
+        int variable = literal >> 1;
+        assigns[variable] = (byte) ((literal & 1) == 0 ? 1 : -1);
+        levels[variable] = decisionLevel;
+        reasons[variable] = reason;
+        trail[trailSize++] = literal;
+    }
+
+    /**
+     * Assigns every literal the trail forces. A clause is watched by its first two literals, and only has to be
+     * looked at when one of those turns false.
+     *
+     * @return the clause that became false, or {@link #NONE}
+     */
+    private int propagate() {
+        while (propagated < trailSize) {
+            int falsified = trail[propagated++] ^ 1;
+            int[] watching = watches[falsified];
+            int size = watchSizes[falsified];
+            int kept = 0;
+            int index = 0;
+            while (index < size) {
+                int clause = watching[index++];
+                int blocker = watching[index++];
+                if (value(blocker) > 0) {
+                    watching[kept++] = clause;
+                    watching[kept++] = blocker;
+                    continue;
+                }
+                int[] literals = clauses[clause];
+                if (literals == null)
+                    continue;
+                if (literals[0] == falsified) {
+                    literals[0] = literals[1];
+                    literals[1] = falsified;
+                }
+                int first = literals[0];
+                if (first != blocker && value(first) > 0) {
+                    watching[kept++] = clause;
+                    watching[kept++] = first;
+                    continue;
+                }
+                boolean moved = false;
+                for (int other = 2; other < literals.length; other++) {
+                    if (value(literals[other]) >= 0) {
+                        literals[1] = literals[other];
+                        literals[other] = falsified;
+                        watch(literals[1], clause, first);
+                        moved = true;
+                        break;
+                    }
+                }
+                if (moved)
+                    continue;
+                watching[kept++] = clause;
+                watching[kept++] = first;
+                if (value(first) < 0) {
+                    while (index < size) {
+                        watching[kept++] = watching[index++];
+                    }
+                    watchSizes[falsified] = kept;
+                    propagated = trailSize;
+                    return clause;
+                }
+                assign(first, clause);
+            }
+            watchSizes[falsified] = kept;
+        }
+        return NONE;
+    }
+
+    /**
+     * Runs restarts of growing length until one of them settles the problem.
+     */
+    private boolean search() {
+        if (unsatisfiable)
+            return false;
+        learnedLimit = Math.max(2000, clauseCount / 3);
+        for (int variable = 1; variable < variableCount; variable++) {
+            if (assigns[variable] == 0) {
+                insert(variable);
+            }
+        }
+        for (int restart = 0; ; restart++) {
+            Boolean result = search(luby(restart) * RESTART_UNIT);
+            if (result != null)
+                return result;
+        }
+    }
+
+    /**
+     * @return the answer, or {@code null} once {@code conflictLimit} conflicts pass without one
+     */
+    private Boolean search(long conflictLimit) {
+        for (long restartConflicts = 0; ; ) {
+            int conflict = propagate();
+            if (conflict != NONE) {
+                if (decisionLevel == 0)
+                    return false;
+                if ((++conflicts & 0xFF) == 0) {
+                    Cancellation.check();
+                }
+                restartConflicts++;
+                learn(conflict);
+                continue;
+            }
+            if (restartConflicts >= conflictLimit) {
+                backtrack(0);
+                return null;
+            }
+            if (learnedCount >= learnedLimit) {
+                reduce();
+            }
+            int decision = nextDecision();
+            if (decision == NONE)
+                return true;
+            trailLimits[decisionLevel++] = trailSize;
+            assign(decision, NONE);
+        }
+    }
+
+    /**
+     * Learns the first-UIP clause of a conflict, jumps back to the level where it becomes unit and asserts it.
+     */
+    private void learn(int conflict) {
+        int[] clause = new int[trailSize + 1];
+        int length = 1;
+        int open = 0;
+        int literal = NONE;
+        int index = trailSize - 1;
+        do {
+            int[] literals = clauses[conflict];
+            for (int position = literal == NONE ? 0 : 1; position < literals.length; position++) {
+                int variable = literals[position] >> 1;
+                if (seen[variable] || levels[variable] == 0)
+                    continue;
+                bump(variable);
+                seen[variable] = true;
+                if (levels[variable] == decisionLevel) {
+                    open++;
+                } else {
+                    clause[length++] = literals[position];
+                }
+            }
+            while (!seen[trail[index] >> 1]) {
+                index--;
+            }
+            literal = trail[index--];
+            conflict = reasons[literal >> 1];
+            seen[literal >> 1] = false;
+            open--;
+        } while (open > 0);
+        clause[0] = literal ^ 1;
+
+        // A literal implied by the others of the clause adds nothing to it.
+        int[] literals = new int[length];
+        int kept = 0;
+        literals[kept++] = clause[0];
+        for (int position = 1; position < length; position++) {
+            if (!impliedByClause(clause[position])) {
+                literals[kept++] = clause[position];
+            }
+        }
+        for (int position = 1; position < length; position++) {
+            seen[clause[position] >> 1] = false;
+        }
+        literals = Arrays.copyOf(literals, kept);
+
+        int backjump = 0;
+        for (int position = 1; position < literals.length; position++) {
+            if (levels[literals[position] >> 1] > levels[literals[1] >> 1]) {
+                int swap = literals[1];
+                literals[1] = literals[position];
+                literals[position] = swap;
+            }
+            backjump = levels[literals[1] >> 1];
+        }
+        backtrack(backjump);
+        if (literals.length == 1) {
+            assign(literals[0], NONE);
+        } else {
+            assign(literals[0], attach(literals, true, blockDistance(literals)));
+        }
+        variableIncrement /= VARIABLE_DECAY;
+    }
+
+    private boolean impliedByClause(int literal) {
+        int reason = reasons[literal >> 1];
+        if (reason == NONE)
+            return false;
+        int[] literals = clauses[reason];
+        for (int position = 1; position < literals.length; position++) {
+            int variable = literals[position] >> 1;
+            if (!seen[variable] && levels[variable] > 0)
+                return false;
+        }
+        return true;
+    }
+
+    private int blockDistance(int[] literals) {
+        Set<Integer> distinctLevels = new HashSet<>();
+        for (int literal : literals) {
+            distinctLevels.add(levels[literal >> 1]);
+        }
+        return distinctLevels.size();
+    }
+
+    private void backtrack(int level) {
+        if (decisionLevel <= level)
+            return;
+        for (int index = trailSize - 1; index >= trailLimits[level]; index--) {
+            int variable = trail[index] >> 1;
+            phases[variable] = assigns[variable] > 0;
+            assigns[variable] = 0;
+            reasons[variable] = NONE;
+            if (heapIndices[variable] == NONE) {
+                insert(variable);
+            }
+        }
+        trailSize = trailLimits[level];
+        propagated = trailSize;
+        decisionLevel = level;
+    }
+
+    /**
+     * Drops the half of the learned clauses whose literals span the most decision levels, keeping binary clauses,
+     * clauses over at most two levels and clauses that are the reason of a current assignment. Watches of a dropped
+     * clause go away the next time propagation meets them.
+     */
+    private void reduce() {
+        List<Integer> candidates = new ArrayList<>();
+        for (int clause = 0; clause < clauseCount; clause++) {
+            int[] literals = clauses[clause];
+            if (!learned[clause] || literals == null || literals.length == 2 || blockDistances[clause] <= 2)
+                continue;
+            if (reasons[literals[0] >> 1] == clause && value(literals[0]) > 0)
+                continue;
+            candidates.add(clause);
+        }
+        candidates.sort(Comparator.comparingInt((Integer clause) -> blockDistances[clause]).reversed());
+        for (int clause : candidates.subList(0, candidates.size() / 2)) {
+            clauses[clause] = null;
+            learnedCount--;
+        }
+        learnedLimit += learnedLimit / 10;
+    }
+
+    /**
+     * Takes the unassigned variable of highest activity, with the value it last had.
+     */
+    private int nextDecision() {
+        while (heapSize > 0) {
+            int variable = removeMax();
+            if (assigns[variable] == 0)
+                return variable << 1 | (phases[variable] ? 0 : 1);
+        }
+        return NONE;
+    }
+
+    private void bump(int variable) {
+        activity[variable] += variableIncrement;
+        if (activity[variable] > 1e100) {
+            for (int other = 0; other < variableCount; other++) {
+                activity[other] *= 1e-100;
+            }
+            variableIncrement *= 1e-100;
+        }
+        if (heapIndices[variable] != NONE) {
+            siftUp(heapIndices[variable]);
+        }
+    }
+
+    private void insert(int variable) {
+        heapIndices[variable] = heapSize;
+        heap[heapSize++] = variable;
+        siftUp(heapSize - 1);
+    }
+
+    private int removeMax() {
+        int top = heap[0];
+        heapIndices[top] = NONE;
+        int last = heap[--heapSize];
+        if (heapSize > 0) {
+            heap[0] = last;
+            heapIndices[last] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int position) {
+        int variable = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >> 1;
+            if (activity[heap[parent]] >= activity[variable])
+                break;
+            heap[position] = heap[parent];
+            heapIndices[heap[position]] = position;
+            position = parent;
+        }
+        heap[position] = variable;
+        heapIndices[variable] = position;
+    }
+
+    private void siftDown(int position) {
+        int variable = heap[position];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= heapSize)
+                break;
+            if (child + 1 < heapSize && activity[heap[child + 1]] > activity[heap[child]]) {
+                child++;
+            }
+            if (activity[heap[child]] <= activity[variable])
+                break;
+            heap[position] = heap[child];
+            heapIndices[heap[position]] = position;
+            position = child;
+        }
+        heap[position] = variable;
+        heapIndices[variable] = position;
+    }
+
+    /**
+     * The restart sequence 1, 1, 2, 1, 1, 2, 4, 1, ... of Luby, Sinclair and Zuckerman.
+     */
+    private static long luby(int restart) {
+        int size = 1;
+        int power = 0;
+        while (size < restart + 1) {
+            power++;
+            size = 2 * size + 1;
+        }
+        while (size - 1 != restart) {
+            size = (size - 1) >> 1;
+            power--;
+            restart %= size;
+        }
+        return 1L << power;
+    }
+
+    private record Gate(boolean exclusive, int first, int second) {
+    }
+}
@@ -0,0 +1,229 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * An incompletely specified function kept as sorted row lists rather than a column of 2^n outputs, so it can have
+ * up to 63 operands as long as only a few rows are listed. The on-set is always listed, together with either the
+ * don't-cares, every other row being off, or the off-set, every other row being a don't-care.
+ * The minimizers let their terms take in don't-cares but only ever have to cover the rows of the chosen set.
+ */
+public class SparseFunction {
+    public static final int MAX_OPERANDS = 63;
+    /**
+     * Up to this many operands a set that was left implicit can be listed row by row when a minimizer needs it.
+     */
+    public static final int LISTING_LIMIT = 20;
+
+    private final List<String> operands;
+    private final int size;
+    private final long[] onSet;
+    private final long[] offSet;
+    private final long[] dontCares;
+
+    private SparseFunction(List<String> operands, long[] onSet, long[] offSet, long[] dontCares) {
+        if (operands.size() > MAX_OPERANDS)
+            throw new IllegalArgumentException("A function can't have more than " + MAX_OPERANDS + " operands!");
+        this.operands = List.copyOf(operands);
+        this.size = operands.size();
+        this.onSet = sorted(onSet);
+        this.offSet = offSet == null ? null : sorted(offSet);
+        this.dontCares = dontCares == null ? null : sorted(dontCares);
+        checkDisjoint(this.onSet, this.offSet == null ? this.dontCares : this.offSet);
+    }
+
+    /**
+     * A function that is on over {@code onSet}, unspecified over {@code dontCares} and off everywhere else.
+     */
+    public static SparseFunction withDontCares(List<String> operands, long[] onSet, long[] dontCares) {
+        return new SparseFunction(operands, onSet, null, dontCares);
+    }
+
+    /**
+     * A function that is on over {@code onSet}, off over {@code offSet} and unspecified everywhere else.
+     */
+    public static SparseFunction withOffSet(List<String> operands, long[] onSet, long[] offSet) {
+        return new SparseFunction(operands, onSet, offSet, null);
+    }
+
+    /**
+     * Lists the rows of a table, so the rows a partial table leaves out become don't-cares.
+     */
+    public static SparseFunction of(TruthTable table) {
+        return withOffSet(table.getOperands(), table.minterms(true).toArray(), table.minterms(false).toArray());
+    }
+
+    public List<String> getOperands() {
+        return operands;
+    }
+
+    public long[] getOnSet() {
+        return onSet.clone();
+    }
+
+    public long[] getOffSet() {
+        return offSet != null ? offSet.clone() : unlisted(onSet, dontCares);
+    }
+
+    public long[] getDontCares() {
+        return dontCares != null ? dontCares.clone() : unlisted(onSet, offSet);
+    }
+
+    public boolean isDontCare(long row) {
+        if (dontCares != null)
+            return Arrays.binarySearch(dontCares, row) >= 0;
+        return Arrays.binarySearch(onSet, row) < 0 && Arrays.binarySearch(offSet, row) < 0;
+    }
+
+    public boolean getOutput(long row) {
+        return Arrays.binarySearch(onSet, row) >= 0;
+    }
+
+    public List<Term> quineMcCluskey(boolean FCNF) {
+        return quineMcCluskey(FCNF, CoverSolver.DEFAULT_BUDGET);
+    }
+
+    public List<Term> quineMcCluskey(boolean FCNF, Duration budget) {
+        long[] target = target(FCNF);
+        return toTerms(CoverSolver.solve(target, primes(target, allowed(target), size), size, budget), FCNF);
+    }
+
+    public List<Term> calculative(boolean FCNF) {
+        long[] target = target(FCNF);
+        return toTerms(TruthTable.dropRedundant(primes(target, allowed(target), size), target), FCNF);
+    }
+
+    public List<Term> karnaughMap(boolean FCNF) {
+        long[] target = target(FCNF);
+        return toTerms(KarnaughMap.cover(target, allowed(target), size), FCNF);
+    }
+
+    /**
+     * Unlike the other minimizers, never lists a set that was left implicit, so it works for any number of operands.
+     */
+    public List<Term> espresso(boolean FCNF) {
+        List<Cube> cover;
+        if (offSet != null) {
+            cover = Espresso.minimizeSpecified(size, cubes(FCNF ? offSet : onSet), cubes(FCNF ? onSet : offSet));
+        } else if (FCNF) {
+            List<Cube> specified = cubes(onSet);
+            specified.addAll(cubes(dontCares));
+            cover = Espresso.minimize(size, Espresso.complement(specified, Cube.sizeMask(size)), cubes(dontCares),
+                    cubes(onSet));
+        } else {
+            cover = Espresso.minimize(size, cubes(onSet), cubes(dontCares));
+        }
+        return toTerms(cover, FCNF);
+    }
+
+    /**
+     * Lists the primes of {@code allowed}, a sorted superset of {@code target}, that cover some row of the target.
+     */
+    static List<Cube> primes(long[] target, long[] allowed, int size) {
+        List<Cube> primes = PrimeGenerator.generate(allowed, size);
+        if (allowed.length == target.length)
+            return primes;
+        List<Cube> result = new ArrayList<>();
+        for (Cube prime : primes) {
+            if (coversAny(prime, target)) {
+                result.add(prime);
+            }
+        }
+        return result;
+    }
+
+    private static boolean coversAny(Cube cube, long[] rows) {
+        if (cube.mintermCount() < rows.length) {
+            boolean[] found = {false};
+            cube.forEachMinterm(row -> found[0] |= Arrays.binarySearch(rows, row) >= 0);
+            return found[0];
+        }
+        for (long row : rows) {
+            if (cube.covers(row))
+                return true;
+        }
+        return false;
+    }
+
+    private long[] target(boolean FCNF) {
+        return FCNF ? getOffSet() : onSet;
+    }
+
+    /**
+     * The rows the terms covering {@code target} may take in: the target and every don't-care.
+     */
+    private long[] allowed(long[] target) {
+        return merge(target, getDontCares());
+    }
+
+    private List<Term> toTerms(List<Cube> cover, boolean FCNF) {
+        List<Term> result = new ArrayList<>(cover.size());
+        for (Cube cube : cover) {
+            result.add(cube.toTerm(operands, !FCNF));
+        }
+        return result;
+    }
+
+    private static List<Cube> cubes(long[] rows) {
+        List<Cube> result = new ArrayList<>(rows.length);
+        for (long row : rows) {
+            result.add(Cube.ofMinterm(row));
+        }
+        return result;
+    }
+
+    /**
+     * Lists every row in neither of two sorted lists, if there are few enough operands to walk all rows.
+     */
+    private long[] unlisted(long[] first, long[] second) {
+        if (size > LISTING_LIMIT)
+            throw new IllegalStateException("Can't list the rows of a function of " + size
+                    + " operands that weren't given; only Espresso minimizes it without them!");
+        long[] listed = merge(first, second);
+        long[] result = new long[(int) ((1L << size) - listed.length)];
+        int count = 0;
+        int next = 0;
+        for (long row = 0; row < 1L << size; row++) {
+            if (next < listed.length && listed[next] == row) {
+                next++;
+            } else {
+                result[count++] = row;
+            }
+        }
+        return result;
+    }
+
+    private static long[] merge(long[] first, long[] second) {
+        long[] result = new long[first.length + second.length];
+        int left = 0;
+        int right = 0;
+        for (int index = 0; index < result.length; index++) {
+            result[index] = right == second.length || left < first.length && first[left] < second[right]
+                    ? first[left++]
+                    : second[right++];
+        }
+        return result;
+    }
+
+    private long[] sorted(long[] rows) {
+        long[] result = rows.clone();
+        Arrays.sort(result);
+        for (int index = 0; index < result.length; index++) {
+            if (result[index] < 0 || result[index] >>> size != 0)
+                throw new IllegalArgumentException("Row " + result[index] + " is out of range for "
+                        + size + " operands!");
+            if (index > 0 && result[index] == result[index - 1])
+                throw new IllegalArgumentException("Row " + result[index] + " is listed twice!");
+        }
+        return result;
+    }
+
+    private static void checkDisjoint(long[] first, long[] second) {
+        long[] merged = merge(first, second);
+        for (int index = 1; index < merged.length; index++) {
+            if (merged[index] == merged[index - 1])
+                throw new IllegalArgumentException("Row " + merged[index] + " is listed in two sets!");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+/**
+ * A cube shared by several functions: bit {@code i} of {@code outputs} is set when the cube is an implicant of
+ * the i-th one.
+ */
+public record TaggedCube(Cube cube, long outputs) {
+
+    public boolean hasOutput(int output) {
+        return (outputs >>> output & 1) != 0;
+    }
+}
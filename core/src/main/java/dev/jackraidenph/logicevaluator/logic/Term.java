@@ -1,9 +1,12 @@
 package dev.jackraidenph.logicevaluator.logic;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 
 public class Term extends ArrayList<String> {
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     public Term() {
     }
@@ -13,8 +16,8 @@ public class Term extends ArrayList<String> {
     }
 
     public Term(List<String> literals) {
-        addAll(literals);
-        if (size() !=
+        super(literals);
+        if (literals.size() !=
                 (literals.stream().map(l -> l.replaceFirst("!", "")).count())
         )
             throw new RuntimeException("Failed to make a term from repeating literals!");
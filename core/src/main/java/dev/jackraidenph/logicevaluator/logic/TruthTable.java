@@ -0,0 +1,749 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import dev.jackraidenph.logicevaluator.utility.ProcessingSequence;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class TruthTable {
+    private final BitColumn/*                                */outputs;
+    private final long/*                                     */rowCount;
+    private final List<String>/*                             */bufferedOperands = new ArrayList<>();
+    private final List<Cube>/*                               */bufferedPDNFPrimes = new ArrayList<>();
+    private final List<Cube>/*                               */bufferedPCNFPrimes = new ArrayList<>();
+    private final List<Term>/*                               */bufferedCalculativeFDNF = new ArrayList<>();
+    private final List<Term>/*                               */bufferedCalculativeFCNF = new ArrayList<>();
+    private final List<Term>/*                               */bufferedQMCCFDNF = new ArrayList<>();
+    private final List<Term>/*                               */bufferedQMCCFCNF = new ArrayList<>();
+    private final List<Term>/*                               */bufferedEspressoFDNF = new ArrayList<>();
+    private final List<Term>/*                               */bufferedEspressoFCNF = new ArrayList<>();
+
+    private final String/*                                   */bufferedExpression;
+    private Duration/*                                       */coverBudget = CoverSolver.DEFAULT_BUDGET;
+    private KarnaughMap/*                                    */bufferedKarnaughMap;
+    private NpnCoverCache/*                                  */coverCache = NpnCoverCache.SHARED;
+
+
+    /**
+     * Most rows {@link #getIndexForm()} accepts: the index of a 2^24-row table is already 2 MiB of bits.
+     */
+    public static final long INDEX_FORM_MAX_ROWS = 1L << 24;
+
+    private static final Pattern OPERAND_PATTERN = Pattern.compile("(!?[A-Za-z]+)");
+    private static final int FILL_THRESHOLD_WORDS = 1 << 10;
+    private static final long FILE_MAGIC = 0x3130545445564C47L;
+
+    public TruthTable(String expression) {
+        this(expression, ForkJoinPool.commonPool());
+    }
+
+    public TruthTable(String expression, ForkJoinPool pool) {
+        this(expression, BitColumn.onHeap(getRowCount(expression)), pool);
+    }
+
+    public TruthTable(String expression, BitColumn storage, ForkJoinPool pool) {
+        bufferedExpression = expression;
+
+        int operandsCount = countOperands();
+
+        ProcessingSequence sequence = ProcessingSequence.fromString(expression).simplified(false);
+
+        rowCount = 1L << operandsCount;
+        if (storage.size() != rowCount)
+            throw new IllegalArgumentException("Storage of " + storage.size() + " rows can't hold " + rowCount);
+        outputs = storage;
+        fill(pool, () -> {
+            long[] registers = sequence.createWordRegisters();
+            return word -> sequence.evaluateWord(word, registers);
+        });
+    }
+
+    /**
+     * Fills a table from any word source, e.g. a {@link BDD} node, asking for a fresh source per fork.
+     */
+    TruthTable(String expression, List<String> operands, Supplier<LongUnaryOperator> words) {
+        this(expression, operands, BitColumn.onHeap(1L << operands.size()));
+        fill(ForkJoinPool.commonPool(), words);
+    }
+
+    /**
+     * A table that won't be split is filled on the calling thread instead of waiting on the pool. Otherwise the
+     * wait is interruptible: a join would clear the interrupt flag until the workers were done, so they would
+     * never see a timeout. Once the wait is interrupted, the workers stop at their next check.
+     */
+    private void fill(ForkJoinPool pool, Supplier<LongUnaryOperator> words) {
+        FillTask fill = new FillTask(words, outputs, new AtomicBoolean(), 0, outputs.wordCount());
+        if (outputs.wordCount() <= FILL_THRESHOLD_WORDS) {
+            fill.invoke();
+            return;
+        }
+        pool.execute(fill);
+        try {
+            fill.get();
+        } catch (InterruptedException exception) {
+            fill.cancelled.set(true);
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted");
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause)
+                throw cause;
+            if (exception.getCause() instanceof Error cause)
+                throw cause;
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    private TruthTable(String expression, List<String> operands, BitColumn storage) {
+        bufferedExpression = expression;
+        bufferedOperands.addAll(operands);
+        rowCount = storage.size();
+        outputs = storage;
+    }
+
+    public TruthTable(List<String> operands, List<List<Boolean>> contents) {
+        bufferedExpression = "";
+
+        int operandsCount = operands.size();
+        bufferedOperands.addAll(operands);
+
+        rowCount = contents.size();
+        outputs = BitColumn.onHeap(rowCount);
+        for (int index = 0; index < rowCount; index++) {
+            outputs.set(index, contents.get(index).get(operandsCount));
+        }
+    }
+
+    /**
+     * Builds the table of the algebraically simplified expression instead of the one given. Operands the
+     * result no longer depends on are dropped, so {@code a * !a + b} gets the single column {@code b}, and
+     * {@link #getExpression()} returns the simplified form.
+     */
+    public static TruthTable simplified(String expression) {
+        ProcessingSequence sequence = ProcessingSequence.fromString(expression).simplified(true);
+        return new TruthTable(sequence.toExpression(), sequence.getOperands(), () -> {
+            long[] registers = sequence.createWordRegisters();
+            return word -> sequence.evaluateWord(word, registers);
+        });
+    }
+
+    public static TruthTable offHeap(String expression) {
+        return new TruthTable(expression, BitColumn.offHeap(getRowCount(expression)), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the table of an expression straight into a memory-mapped file, which can later be
+     * reopened with {@link #open(Path)} without evaluating the expression again.
+     */
+    public static TruthTable mapped(String expression, Path file) throws IOException {
+        List<String> operands = getUniqueOperands(expression);
+        long rows = 1L << operands.size();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = encodeHeader(expression, operands, rows);
+            channel.write(header, 0);
+            BitColumn storage = BufferBitColumn.map(channel, FileChannel.MapMode.READ_WRITE,
+                    header.capacity(), rows);
+            TruthTable table = new TruthTable(expression, storage, ForkJoinPool.commonPool());
+            storage.flush();
+            return table;
+        }
+    }
+
+    public static TruthTable open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer prefix = ByteBuffer.allocate(Long.BYTES * 2 + Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(prefix, 0);
+            prefix.flip();
+            if (prefix.remaining() < prefix.capacity() || prefix.getLong() != FILE_MAGIC)
+                throw new IOException("Not a truth table file: " + file);
+            long rows = prefix.getLong();
+            int headerSize = prefix.getInt();
+
+            ByteBuffer header = ByteBuffer.allocate(headerSize).order(ByteOrder.LITTLE_ENDIAN);
+            channel.read(header, 0);
+            header.position(prefix.capacity());
+            String expression = readString(header);
+            String operands = readString(header);
+
+            BitColumn storage = BufferBitColumn.map(channel, FileChannel.MapMode.READ_ONLY, headerSize, rows);
+            return new TruthTable(expression,
+                    operands.isEmpty() ? List.of() : List.of(operands.split("\n")), storage);
+        }
+    }
+
+    public void save(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = encodeHeader(bufferedExpression, getOperands(), rowCount);
+            channel.write(header, 0);
+            BitColumn storage = BufferBitColumn.map(channel, FileChannel.MapMode.READ_WRITE,
+                    header.capacity(), rowCount);
+            for (long word = 0; word < outputs.wordCount(); word++) {
+                storage.setWord(word, outputs.getWord(word));
+            }
+            storage.flush();
+        }
+    }
+
+    private static ByteBuffer encodeHeader(String expression, List<String> operands, long rows) {
+        byte[] expressionBytes = expression.getBytes(StandardCharsets.UTF_8);
+        byte[] operandBytes = String.join("\n", operands).getBytes(StandardCharsets.UTF_8);
+        int size = Long.BYTES * 2 + Integer.BYTES * 3 + expressionBytes.length + operandBytes.length;
+        size = (size + 7) & ~7;
+
+        ByteBuffer header = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        header.putLong(FILE_MAGIC).putLong(rows).putInt(size);
+        header.putInt(expressionBytes.length).put(expressionBytes);
+        header.putInt(operandBytes.length).put(operandBytes);
+        return header.position(0);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public String getExpression() {
+        return bufferedExpression;
+    }
+
+    public List<String> getOperands() {
+        countOperands();
+        return bufferedOperands.stream().toList();
+    }
+
+    public List<List<Boolean>> getContents() {
+        if (rowCount > Integer.MAX_VALUE)
+            throw new IllegalStateException("Truth table has too many rows to be viewed as a list!");
+        return new AbstractList<>() {
+            @Override
+            public List<Boolean> get(int index) {
+                return getRow(index);
+            }
+
+            @Override
+            public int size() {
+                return (int) rowCount;
+            }
+        };
+    }
+
+    public List<Boolean> getRow(long index) {
+        if (index < 0 || index >= rowCount)
+            throw new IndexOutOfBoundsException(index);
+        final int operandsCount = getWidth() - 1;
+        return new AbstractList<>() {
+            @Override
+            public Boolean get(int column) {
+                if (column == operandsCount)
+                    return outputs.get(index);
+                return getInput(index, column, operandsCount);
+            }
+
+            @Override
+            public int size() {
+                return operandsCount + 1;
+            }
+        };
+    }
+
+    public Stream<List<Boolean>> rows() {
+        return LongStream.range(0, rowCount).mapToObj(this::getRow);
+    }
+
+    public LongStream minterms(boolean ones) {
+        return StreamSupport.longStream(
+                new RowSpliterator(() -> outputs::getWord, 0, rowCount, ones), false);
+    }
+
+    /**
+     * Streams the on-set ({@code ones}) or off-set of an expression without building its table:
+     * rows are evaluated 64 at a time as the stream is consumed, so memory use does not depend on 2^n.
+     */
+    public static LongStream minterms(String expression, boolean ones) {
+        ProcessingSequence sequence = ProcessingSequence.fromString(expression);
+        long rows = 1L << sequence.getOperands().size();
+        return StreamSupport.longStream(new RowSpliterator(() -> {
+            long[] registers = sequence.createWordRegisters();
+            return (LongUnaryOperator) word -> sequence.evaluateWord(word, registers);
+        }, 0, rows, ones), false);
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public boolean getOutput(long index) {
+        return outputs.get(index);
+    }
+
+    public int getWidth() {
+        return countOperands() + 1;
+    }
+
+    private int countOperands() {
+        if (bufferedOperands.isEmpty()) {
+            bufferedOperands.addAll(getUniqueOperands(bufferedExpression));
+        }
+        return bufferedOperands.size();
+    }
+
+    private static long getRowCount(String expression) {
+        return 1L << getUniqueOperands(expression).size();
+    }
+
+    private static List<String> getUniqueOperands(String expression) {
+        return OPERAND_PATTERN
+                .matcher(expression)
+                .results()
+                .map(matchResult -> matchResult.group().replace("!", ""))
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    protected static boolean getInput(long row, int column, int size) {
+        return ((row >>> (size - 1 - column)) & 1) != 0;
+    }
+
+    public String getPrincipal(boolean PCNF) {
+        StringBuilder result = new StringBuilder();
+
+        minterms(!PCNF).mapToObj(this::getRow).forEachOrdered(row -> {
+            if (!result.isEmpty()) {
+                result.append(PCNF ? " * " : " + ");
+            }
+            result.append(PCNF ? constructZerosConstituent(row) : constructOnesConstituent(row));
+        });
+
+        return result.toString();
+    }
+
+    public String getPDNF() {
+        return getPrincipal(false);
+    }
+
+    public String getPCNF() {
+        return getPrincipal(true);
+    }
+
+    public String getNumeric(boolean PCNF) {
+        return formatNumeric(minterms(!PCNF), PCNF);
+    }
+
+    public static String getNumeric(String expression, boolean PCNF) {
+        return formatNumeric(minterms(expression, !PCNF), PCNF);
+    }
+
+    private static String formatNumeric(LongStream indices, boolean PCNF) {
+        return indices
+                .mapToObj(Long::toString)
+                .collect(Collectors.joining(", ", PCNF ? "*(" : "+(", ")"));
+    }
+
+    public String getNumericPDNF() {
+        return getNumeric(false);
+    }
+
+    public String getNumericPCNF() {
+        return getNumeric(true);
+    }
+
+    private String constructConstituent(boolean ones, List<Boolean> row) {
+        StringBuilder result = new StringBuilder();
+
+        for (int index = 0; index < getWidth() - 1; index++) {
+            String element = bufferedOperands.get(index);
+            if (ones ^ row.get(index)) {
+                element = "!" + element;
+            }
+
+            result.append(element);
+            if (index != (getWidth() - 2)) {
+                result.append(ones ? " * " : " + ");
+            }
+        }
+
+        return result.insert(0, "(").append(")").toString();
+    }
+
+    private String constructOnesConstituent(List<Boolean> row) {
+        return constructConstituent(true, row);
+    }
+
+    private String constructZerosConstituent(List<Boolean> row) {
+        return constructConstituent(false, row);
+    }
+
+    /**
+     * Reads the output column as a binary number whose most significant bit is row 0. The number takes a bit per
+     * row on the heap, so an off-heap or mapped column is only read this way up to {@link #INDEX_FORM_MAX_ROWS}.
+     */
+    public String getIndexForm() {
+        if (rowCount > INDEX_FORM_MAX_ROWS)
+            throw new IllegalStateException("Truth table has too many rows for an index form: " + rowCount);
+        long wordCount = outputs.wordCount();
+        ByteBuffer bits = ByteBuffer.allocate((int) wordCount * Long.BYTES);
+        for (long word = 0; word < wordCount; word++) {
+            Cancellation.check();
+            bits.putLong(Long.reverse(outputs.getWord(word) & BitColumn.validMask(rowCount, word)));
+        }
+        BigInteger indexOfFunction = new BigInteger(1, bits.array()).shiftRight((int) (wordCount * 64 - rowCount));
+
+        return "f(" + (getWidth() - 1) + ")" + indexOfFunction;
+    }
+
+    public String getSDNF() {
+        return getShortenedForm(false);
+    }
+
+    public String getSCNF() {
+        return getShortenedForm(true);
+    }
+
+    public String getShortenedForm(boolean SCNF) {
+        List<Cube> buffer = SCNF ? bufferedPCNFPrimes : bufferedPDNFPrimes;
+
+        if (SCNF) {
+            buildPCNFPrimes();
+        } else {
+            buildPDNFPrimes();
+        }
+
+        List<Term> primes = buffer.stream().map(cube -> cube.toTerm(bufferedOperands, !SCNF)).toList();
+
+        return constructFromList(SCNF, primes);
+    }
+
+    private void buildPDNFPrimes() {
+        buildFormPrimes(false);
+    }
+
+    private void buildPCNFPrimes() {
+        buildFormPrimes(true);
+    }
+
+    private synchronized void buildFormPrimes(boolean PCNF) {
+        List<Cube> primeBuffer = PCNF ? bufferedPCNFPrimes : bufferedPDNFPrimes;
+
+        if (!primeBuffer.isEmpty())
+            return;
+
+        long[] minterms = minterms(!PCNF).toArray();
+        primeBuffer.addAll(SparseFunction.primes(minterms, implicantRows(minterms), countOperands()));
+    }
+
+    /**
+     * Adds the rows a partial table leaves out, which are don't-cares, to sorted {@code minterms}.
+     */
+    long[] implicantRows(long[] minterms) {
+        long end = 1L << countOperands();
+        if (rowCount == end)
+            return minterms;
+        long[] result = Arrays.copyOf(minterms, Math.toIntExact(minterms.length + end - rowCount));
+        for (int index = minterms.length; index < result.length; index++) {
+            result[index] = rowCount + index - minterms.length;
+        }
+        return result;
+    }
+
+    public String getCalculativeFDNF() {
+        return constructFromList(false, calculativeReduction(false));
+    }
+
+    public String getCalculativeFCNF() {
+        return constructFromList(true, calculativeReduction(true));
+    }
+
+    private synchronized List<Term> calculativeReduction(boolean FCNF) {
+        List<Term> resultBuffer = FCNF ? bufferedCalculativeFCNF : bufferedCalculativeFDNF;
+        if (!resultBuffer.isEmpty())
+            return resultBuffer;
+
+        List<Cube> buffer = FCNF ? bufferedPCNFPrimes : bufferedPDNFPrimes;
+
+        buildFormPrimes(FCNF);
+
+        for (Cube prime : dropRedundant(buffer, minterms(!FCNF).toArray())) {
+            resultBuffer.add(prime.toTerm(bufferedOperands, !FCNF));
+        }
+
+        return resultBuffer;
+    }
+
+    /**
+     * Drops primes, in order, whose every minterm is still covered by another prime that has been kept.
+     * Each minterm tracks how many remaining primes cover it, so a prime is redundant exactly when
+     * all of its counts exceed one, and dropping it only decrements them.
+     */
+    static List<Cube> dropRedundant(List<Cube> primes, long[] minterms) {
+        int[] coverage = new int[minterms.length];
+        for (Cube prime : primes) {
+            forEachCovered(prime, minterms, position -> coverage[position]++);
+        }
+
+        List<Cube> result = new ArrayList<>();
+        for (Cube prime : primes) {
+            boolean[] redundant = {true};
+            forEachCovered(prime, minterms, position -> redundant[0] &= coverage[position] > 1);
+            if (redundant[0]) {
+                forEachCovered(prime, minterms, position -> coverage[position]--);
+            } else {
+                result.add(prime);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Passes the position in {@code minterms} of every minterm the cube covers.
+     */
+    private static void forEachCovered(Cube cube, long[] minterms, IntConsumer action) {
+        if (cube.mintermCount() < minterms.length) {
+            cube.forEachMinterm(minterm -> {
+                int position = Arrays.binarySearch(minterms, minterm);
+                if (position >= 0) {
+                    action.accept(position);
+                }
+            });
+            return;
+        }
+        for (int position = 0; position < minterms.length; position++) {
+            if (cube.covers(minterms[position])) {
+                action.accept(position);
+            }
+        }
+    }
+
+    public String getQuineMcCluskeyFDNF() {
+        return getQuineMcCluskey(false);
+    }
+
+    public String getQuineMcCluskeyFCNF() {
+        return getQuineMcCluskey(true);
+    }
+
+    private String getQuineMcCluskey(boolean FCNF) {
+        return constructFromList(FCNF, QuineMcCluskey(FCNF));
+    }
+
+    public synchronized List<Term> QuineMcCluskey(boolean FCNF) {
+        List<Term> resultBuffer = FCNF ? bufferedQMCCFCNF : bufferedQMCCFDNF;
+        if (!resultBuffer.isEmpty())
+            return resultBuffer;
+
+        final int size = countOperands();
+        List<Cube> cover;
+        if (coverCache != null && NpnCoverCache.supports(size) && rowCount == 1L << size) {
+            cover = coverCache.quineMcCluskey(outputs.getWord(0), size, FCNF, coverBudget);
+        } else {
+            List<Cube> buffer = FCNF ? bufferedPCNFPrimes : bufferedPDNFPrimes;
+            buildFormPrimes(FCNF);
+            cover = CoverSolver.solve(minterms(!FCNF).toArray(), buffer, size, coverBudget);
+        }
+        resultBuffer.addAll(cover.stream().map(cube -> cube.toTerm(bufferedOperands, !FCNF)).toList());
+
+        return resultBuffer;
+    }
+
+    /**
+     * Limits the time the Quine-McCluskey cover search may spend on a cyclic prime chart
+     * before it settles for the best cover found so far.
+     */
+    public synchronized void setCoverBudget(Duration budget) {
+        coverBudget = budget;
+        bufferedQMCCFDNF.clear();
+        bufferedQMCCFCNF.clear();
+    }
+
+    /**
+     * Sets where functions of up to six operands look up their minimal covers; {@code null} always minimizes locally.
+     */
+    public synchronized void setCoverCache(NpnCoverCache cache) {
+        coverCache = cache;
+        bufferedQMCCFDNF.clear();
+        bufferedQMCCFCNF.clear();
+    }
+
+    public synchronized KarnaughMap getKarnaughMap() {
+        if (bufferedKarnaughMap == null) {
+            bufferedKarnaughMap = new KarnaughMap(this);
+        }
+        return bufferedKarnaughMap;
+    }
+
+    public String getEspressoFDNF() {
+        return constructFromList(false, espresso(false));
+    }
+
+    public String getEspressoFCNF() {
+        return constructFromList(true, espresso(true));
+    }
+
+    public synchronized List<Term> espresso(boolean FCNF) {
+        List<Term> resultBuffer = FCNF ? bufferedEspressoFCNF : bufferedEspressoFDNF;
+        if (!resultBuffer.isEmpty())
+            return resultBuffer;
+
+        final int size = countOperands();
+        List<Cube> onSet = new ArrayList<>();
+        List<Cube> offSet = new ArrayList<>();
+        if (collectBlocks(0, size, !FCNF, onSet) == ALL) {
+            onSet.add(new Cube(0, Cube.sizeMask(size)));
+        }
+        if (collectBlocks(0, size, FCNF, offSet) == ALL) {
+            offSet.add(new Cube(0, Cube.sizeMask(size)));
+        }
+
+        List<Cube> dontCares = new ArrayList<>();
+        long end = 1L << size;
+        for (long start = rowCount; start < end; ) {
+            int level = Math.min(Long.numberOfTrailingZeros(start), 63 - Long.numberOfLeadingZeros(end - start));
+            dontCares.add(new Cube(start, (1L << level) - 1));
+            start += 1L << level;
+        }
+
+        List<Cube> cover = Espresso.minimize(size, onSet, dontCares, offSet);
+        resultBuffer.addAll(cover.stream().map(cube -> cube.toTerm(bufferedOperands, !FCNF)).toList());
+
+        return resultBuffer;
+    }
+
+    private static final int NONE = 0;
+    private static final int ALL = 1;
+    private static final int MIXED = 2;
+
+    /**
+     * Splits the rows in {@code [start, start + 2^level)} whose output equals {@code ones} into aligned blocks,
+     * adding a cube for every maximal block and returning whether the range matched entirely, partly or not at all.
+     * Rows past the end of a partial table are don't-cares, so a range that starts there matches nothing.
+     */
+    private int collectBlocks(long start, int level, boolean ones, List<Cube> out) {
+        if (start >= rowCount)
+            return NONE;
+        if (level <= 6) {
+            long wordIndex = start >>> 6;
+            long word = (ones ? outputs.getWord(wordIndex) : ~outputs.getWord(wordIndex))
+                    & BitColumn.validMask(rowCount, wordIndex);
+            long full = level == 6 ? -1L : (1L << (1 << level)) - 1;
+            long bits = (word >>> (start & 63)) & full;
+            if (bits == 0)
+                return NONE;
+            if (bits == full)
+                return ALL;
+        }
+
+        long half = 1L << (level - 1);
+        int left = collectBlocks(start, level - 1, ones, out);
+        int right = collectBlocks(start + half, level - 1, ones, out);
+        if (left == right && left != MIXED)
+            return left;
+        if (left == ALL) {
+            out.add(new Cube(start, half - 1));
+        }
+        if (right == ALL) {
+            out.add(new Cube(start + half, half - 1));
+        }
+        return MIXED;
+    }
+
+    public static String constructFromList(boolean CNF, List<Term> list) {
+        StringBuilder result = new StringBuilder();
+        for (Term term : list) {
+            if (!result.isEmpty() && (list.indexOf(term) != list.size())) {
+                result.append(CNF ? " * " : " + ");
+            }
+            if (term.isEmpty()) {
+                // A term without literals is constant: a true product or a false sum.
+                result.append(CNF ? "0" : "1");
+                continue;
+            }
+            StringBuilder constituent = new StringBuilder().append("(");
+            for (ListIterator<String> opIterator = term.listIterator(); opIterator.hasNext(); ) {
+                int opIndex = opIterator.nextIndex();
+                constituent.append(opIterator.next());
+                if (opIndex != (term.size() - 1)) {
+                    constituent.append(CNF ? " + " : " * ");
+                }
+            }
+            constituent.append(")");
+            result.append(constituent);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Fills a range of words, checking every 64 of them whether the fill was cancelled, or, when it runs on the
+     * thread that asked for the table, whether that thread was interrupted. Tasks are never serialized.
+     */
+    @SuppressWarnings("serial")
+    private static class FillTask extends RecursiveAction {
+        private final Supplier<LongUnaryOperator> sources;
+        private final BitColumn outputs;
+        private final AtomicBoolean cancelled;
+        private final long fromWord;
+        private final long toWord;
+
+        private FillTask(Supplier<LongUnaryOperator> sources, BitColumn outputs, AtomicBoolean cancelled,
+                         long fromWord, long toWord) {
+            this.sources = sources;
+            this.outputs = outputs;
+            this.cancelled = cancelled;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+        }
+
+        @Override
+        protected void compute() {
+            if (toWord - fromWord <= FILL_THRESHOLD_WORDS) {
+                LongUnaryOperator words = sources.get();
+                for (long word = fromWord; word < toWord; word++) {
+                    if ((word & 63) == 0) {
+                        if (cancelled.get())
+                            throw new CancellationException("Interrupted");
+                        Cancellation.check();
+                    }
+                    outputs.setWord(word, words.applyAsLong(word));
+                }
+                return;
+            }
+            long middle = (fromWord + toWord) >>> 1;
+            invokeAll(new FillTask(sources, outputs, cancelled, fromWord, middle),
+                    new FillTask(sources, outputs, cancelled, middle, toWord));
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (List<Boolean> row : getContents()) {
+            for (Boolean value : row) {
+                result.append(value ? "1" : "0").append(" ");
+            }
+            result.append("\n");
+        }
+        return result.toString();
+    }
+}
\ No newline at end of file
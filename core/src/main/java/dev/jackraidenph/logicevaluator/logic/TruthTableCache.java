@@ -0,0 +1,170 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import dev.jackraidenph.logicevaluator.utility.Operation;
+import dev.jackraidenph.logicevaluator.utility.ParsingUtils;
+import dev.jackraidenph.logicevaluator.utility.ProcessingSequence;
+
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A bounded LRU cache of truth tables keyed by {@link #canonicalize(String) canonical expression} and operands.
+ * The operands are part of the key because constants are folded away while canonicalizing: {@code a * 0} and
+ * {@code 0} share the canonical form {@code 0}, but only the first has the column {@code a}.
+ * Tables buffer their derived forms, so a hit also reuses every form computed on an earlier request.
+ * Concurrent requests for the same key wait for a single computation instead of starting their own. When that
+ * computation is cancelled by interrupting the thread that started it, the requests still waiting start over.
+ */
+public class TruthTableCache {
+    private final int capacity;
+    private final LinkedHashMap<Key, CompletableFuture<TruthTable>> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public TruthTableCache(int capacity) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CompletableFuture<TruthTable>> eldest) {
+                if (size() <= TruthTableCache.this.capacity)
+                    return false;
+                evictions++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the table of an expression, building it on a miss. The returned table's
+     * {@link TruthTable#getExpression()} is the canonical form, and its operands are every operand of the
+     * expression given, including those that only meet a constant.
+     */
+    public TruthTable get(String expression) {
+        ProcessingSequence sequence = ProcessingSequence.fromString(expression);
+        Key key = new Key(expression.isBlank() ? "" : canonicalize(sequence, expression), sequence.getOperands());
+        while (true) {
+            CompletableFuture<TruthTable> future;
+            boolean owner = false;
+            synchronized (entries) {
+                future = entries.get(key);
+                if (future == null) {
+                    future = new CompletableFuture<>();
+                    entries.put(key, future);
+                    owner = true;
+                    misses++;
+                } else {
+                    hits++;
+                }
+            }
+
+            if (owner) {
+                try {
+                    future.complete(build(key, sequence.simplified(false)));
+                } catch (Throwable failure) {
+                    // Errors too: a future left incomplete in the map would block every later request for the key.
+                    synchronized (entries) {
+                        entries.remove(key, future);
+                    }
+                    future.completeExceptionally(failure);
+                    throw failure;
+                }
+            }
+
+            try {
+                return future.join();
+            } catch (CancellationException exception) {
+                // The owner was cancelled and has removed its entry; only give up if this thread was cancelled too.
+                if (Thread.currentThread().isInterrupted())
+                    throw exception;
+            } catch (CompletionException exception) {
+                if (exception.getCause() instanceof RuntimeException cause)
+                    throw cause;
+                if (exception.getCause() instanceof Error cause)
+                    throw cause;
+                throw exception;
+            }
+        }
+    }
+
+    private static TruthTable build(Key key, ProcessingSequence sequence) {
+        return new TruthTable(key.canonical(), key.operands(), () -> {
+            long[] registers = sequence.createWordRegisters();
+            return word -> sequence.evaluateWord(word, registers);
+        });
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public CacheStatistics getStatistics() {
+        synchronized (entries) {
+            return new CacheStatistics(hits, misses, evictions, entries.size());
+        }
+    }
+
+    /**
+     * Normalizes an expression so that spellings of the same formula share a key: whitespace and redundant
+     * parentheses are dropped, chains of AND, OR and XOR are flattened and their operands sorted.
+     * Every compound subterm is parenthesized, so the result parses back without relying on precedence.
+     */
+    public static String canonicalize(String expression) {
+        return expression.isBlank() ? "" : canonicalize(ProcessingSequence.fromString(expression), expression);
+    }
+
+    private static String canonicalize(ProcessingSequence sequence, String expression) {
+        Canonical result = sequence.fold(new ProcessingSequence.Folder<>() {
+            @Override
+            public Canonical operand(int index) {
+                return new Canonical(null, List.of(sequence.getOperands().get(index)));
+            }
+
+            @Override
+            public Canonical constant(boolean value) {
+                return new Canonical(null, List.of(value ? "1" : "0"));
+            }
+
+            @Override
+            public Canonical apply(Operation operation, Canonical first, Canonical second) {
+                return switch (operation) {
+                    case NOT -> new Canonical(operation, List.of(first.render()));
+                    case IMPL -> new Canonical(operation, List.of(second.render(), first.render()));
+                    case AND, OR, XOR -> {
+                        List<String> operands = new ArrayList<>();
+                        for (Canonical part : List.of(second, first)) {
+                            if (part.operation() == operation) {
+                                operands.addAll(part.operands());
+                            } else {
+                                operands.add(part.render());
+                            }
+                        }
+                        Collections.sort(operands);
+                        yield new Canonical(operation, operands);
+                    }
+                    case OPEN, CLOSE -> throw new IllegalArgumentException("Unbalanced parentheses: " + expression);
+                };
+            }
+        });
+        return result.render();
+    }
+
+    private record Key(String canonical, List<String> operands) {
+    }
+
+    private record Canonical(Operation operation, List<String> operands) {
+        private String render() {
+            if (operation == null)
+                return operands.get(0);
+            if (operation == Operation.NOT)
+                return "!" + operands.get(0);
+            return "(" + String.join(ParsingUtils.OP_TO_STR.get(operation), operands) + ")";
+        }
+    }
+}
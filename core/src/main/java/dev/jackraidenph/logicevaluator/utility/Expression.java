@@ -0,0 +1,22 @@
+package dev.jackraidenph.logicevaluator.utility;
+
+/**
+ * The syntax tree of a parsed expression. Every node keeps the offset of the token it was built from:
+ * the constant, the identifier, the {@code !}, or the binary operator.
+ */
+public sealed interface Expression
+        permits Expression.Constant, Expression.Variable, Expression.Not, Expression.Binary {
+    int position();
+
+    record Constant(boolean value, int position) implements Expression {
+    }
+
+    record Variable(String name, int position) implements Expression {
+    }
+
+    record Not(Expression operand, int position) implements Expression {
+    }
+
+    record Binary(Operation operation, Expression left, Expression right, int position) implements Expression {
+    }
+}
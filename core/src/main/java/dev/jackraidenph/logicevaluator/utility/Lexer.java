@@ -0,0 +1,57 @@
+package dev.jackraidenph.logicevaluator.utility;
+
+/**
+ * Splits an expression into tokens in a single pass. Identifiers are runs of ASCII letters, {@code 0} and
+ * {@code 1} are constants, whitespace separates tokens and anything else that isn't an operator is reported
+ * with its position.
+ */
+public class Lexer {
+    private final CharSequence input;
+    private int position;
+
+    public Lexer(CharSequence input) {
+        this.input = input;
+    }
+
+    public Token next() {
+        while (position < input.length() && Character.isWhitespace(input.charAt(position))) {
+            position++;
+        }
+        if (position == input.length())
+            return new Token(Token.Kind.END, null, "", position);
+
+        int start = position;
+        char symbol = input.charAt(position);
+        if (isLetter(symbol)) {
+            while (position < input.length() && isLetter(input.charAt(position))) {
+                position++;
+            }
+            return new Token(Token.Kind.IDENTIFIER, null, input.subSequence(start, position).toString(), start);
+        }
+
+        if (symbol == '0' || symbol == '1') {
+            position++;
+            return new Token(Token.Kind.CONSTANT, null, String.valueOf(symbol), start);
+        }
+
+        Operation operation = switch (symbol) {
+            case '!' -> Operation.NOT;
+            case '*' -> Operation.AND;
+            case '+' -> Operation.OR;
+            case '^' -> Operation.XOR;
+            case '(' -> Operation.OPEN;
+            case ')' -> Operation.CLOSE;
+            case '-' -> position + 1 < input.length() && input.charAt(position + 1) == '>' ? Operation.IMPL : null;
+            default -> null;
+        };
+        if (operation == null)
+            throw new ParseException("Unexpected character '" + symbol + "'", start);
+
+        position += operation == Operation.IMPL ? 2 : 1;
+        return new Token(Token.Kind.OPERATOR, operation, input.subSequence(start, position).toString(), start);
+    }
+
+    private static boolean isLetter(char symbol) {
+        return (symbol >= 'A' && symbol <= 'Z') || (symbol >= 'a' && symbol <= 'z');
+    }
+}
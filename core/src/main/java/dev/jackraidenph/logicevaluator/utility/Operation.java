@@ -0,0 +1,47 @@
+package dev.jackraidenph.logicevaluator.utility;
+
+import java.util.function.BiFunction;
+import java.util.function.LongBinaryOperator;
+
+public enum Operation {
+    NOT(true, 4, (f, s) -> !f, (f, s) -> ~f),
+    AND(false, 3, (f, s) -> f && s, (f, s) -> f & s),
+    OR(false, 2, (f, s) -> f || s, (f, s) -> f | s),
+    XOR(false, 2, (f, s) -> f ^ s, (f, s) -> f ^ s),
+    IMPL(false, 1, (f, s) -> f || !s, (f, s) -> f | ~s),
+    OPEN(true, -1, null, null),
+    CLOSE(true, -1, null, null);
+
+    public boolean isUnary() {
+        return unary;
+    }
+
+    public int getPrecedence() {
+        return precedence;
+    }
+
+    public boolean apply(Boolean first, Boolean second) {
+        if (function == null)
+            return false;
+        return function.apply(first, second);
+    }
+
+    public long applyWord(long first, long second) {
+        if (wordFunction == null)
+            return 0L;
+        return wordFunction.applyAsLong(first, second);
+    }
+
+    public final boolean unary;
+    public final int precedence;
+    public final BiFunction<Boolean, Boolean, Boolean> function;
+    public final LongBinaryOperator wordFunction;
+
+    Operation(boolean unary, int precedence, BiFunction<Boolean, Boolean, Boolean> function,
+              LongBinaryOperator wordFunction) {
+        this.unary = unary;
+        this.precedence = precedence;
+        this.function = function;
+        this.wordFunction = wordFunction;
+    }
+}
@@ -0,0 +1,19 @@
+package dev.jackraidenph.logicevaluator.utility;
+
+import java.io.Serial;
+
+public class ParseException extends IllegalArgumentException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final int position;
+
+    public ParseException(String message, int position) {
+        super(message + " at position " + position);
+        this.position = position;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,106 @@
+package dev.jackraidenph.logicevaluator.utility;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A recursive-descent parser using precedence climbing over {@link Operation#getPrecedence()}.
+ * Operators of equal precedence group to the right, even when they differ, so {@code a ^ b + c} is
+ * {@code a ^ (b + c)}: that is how the shunting-yard parser this one replaced grouped them, as it only
+ * popped operators of strictly higher precedence. Operator chains and negations are parsed in loops, so only
+ * parentheses add to the recursion depth, and that depth is capped at {@link #MAX_DEPTH} so that a
+ * pathological input is a parse error rather than a stack overflow.
+ */
+public class Parser {
+    public static final int MAX_DEPTH = 1000;
+    private static final int LOWEST_PRECEDENCE = Operation.IMPL.getPrecedence();
+
+    private final Lexer lexer;
+    private Token current;
+    private int depth;
+
+    private Parser(CharSequence input) {
+        lexer = new Lexer(input);
+        current = lexer.next();
+    }
+
+    public static Expression parse(CharSequence input) {
+        Parser parser = new Parser(input);
+        Expression result = parser.parseBinary(LOWEST_PRECEDENCE);
+        if (parser.current.kind() != Token.Kind.END)
+            throw new ParseException("Unexpected " + parser.current.describe(), parser.current.position());
+        return result;
+    }
+
+    private Token advance() {
+        Token token = current;
+        current = lexer.next();
+        return token;
+    }
+
+    private boolean atBinaryOperator() {
+        return current.kind() == Token.Kind.OPERATOR
+                && !current.operation().isUnary();
+    }
+
+    private Expression parseBinary(int minimumPrecedence) {
+        if (++depth > MAX_DEPTH)
+            throw new ParseException("Expression nests more than " + MAX_DEPTH + " levels deep", current.position());
+        Expression left = parseUnary();
+        while (atBinaryOperator() && current.operation().getPrecedence() >= minimumPrecedence) {
+            left = parseChain(left, current.operation().getPrecedence());
+        }
+        depth--;
+        return left;
+    }
+
+    /**
+     * Reads {@code first op b op c ...} for operators of one precedence and folds it from the right.
+     */
+    private Expression parseChain(Expression first, int precedence) {
+        List<Expression> operands = new ArrayList<>(List.of(first));
+        List<Token> operators = new ArrayList<>();
+        while (atBinaryOperator() && current.operation().getPrecedence() == precedence) {
+            operators.add(advance());
+            operands.add(parseBinary(precedence + 1));
+        }
+        Expression result = operands.get(operands.size() - 1);
+        for (int index = operators.size() - 1; index >= 0; index--) {
+            Token next = operators.get(index);
+            result = new Expression.Binary(next.operation(), operands.get(index), result, next.position());
+        }
+        return result;
+    }
+
+    private Expression parseUnary() {
+        Deque<Integer> negations = new ArrayDeque<>();
+        while (current.is(Operation.NOT)) {
+            negations.push(advance().position());
+        }
+
+        Expression result = parsePrimary();
+        while (!negations.isEmpty()) {
+            result = new Expression.Not(result, negations.pop());
+        }
+        return result;
+    }
+
+    private Expression parsePrimary() {
+        Token token = advance();
+        if (token.kind() == Token.Kind.IDENTIFIER)
+            return new Expression.Variable(token.text(), token.position());
+        if (token.kind() == Token.Kind.CONSTANT)
+            return new Expression.Constant(token.text().equals("1"), token.position());
+        if (token.is(Operation.OPEN)) {
+            Expression inner = parseBinary(LOWEST_PRECEDENCE);
+            if (!current.is(Operation.CLOSE))
+                throw new ParseException("Expected ')' to close '(' at " + token.position() + " but found "
+                        + current.describe(), current.position());
+            advance();
+            return inner;
+        }
+        throw new ParseException("Expected an operand but found " + token.describe(), token.position());
+    }
+}
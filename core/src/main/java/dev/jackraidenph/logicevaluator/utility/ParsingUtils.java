@@ -0,0 +1,65 @@
+package dev.jackraidenph.logicevaluator.utility;
+
+import java.util.*;
+
+public class ParsingUtils {
+    public static final Map<String, Operation> STR_TO_OP = new HashMap<>() {{
+        put("!", Operation.NOT);
+        put("*", Operation.AND);
+        put("+", Operation.OR);
+        put("^", Operation.XOR);
+        put("->", Operation.IMPL);
+        put("(", Operation.OPEN);
+        put(")", Operation.CLOSE);
+    }};
+
+    public static final String OPERATORS = String.join("", STR_TO_OP.keySet());
+
+    public static final Map<Operation, String> OP_TO_STR = new EnumMap<>(Operation.class) {{
+        STR_TO_OP.forEach((symbol, operation) -> put(operation, symbol));
+    }};
+
+    private ParsingUtils() {
+    }
+
+    /**
+     * Parses an infix expression and lists its postfix form: operands by name, operators by symbol.
+     * A blank expression has an empty postfix form.
+     */
+    public static List<String> infixToPostfix(String toConvert) {
+        if (toConvert.isBlank())
+            return new ArrayList<>();
+        return toPostfix(Parser.parse(toConvert));
+    }
+
+    /**
+     * Walks the tree in post-order with an explicit stack, so arbitrarily deep operator chains can't overflow.
+     */
+    public static List<String> toPostfix(Expression expression) {
+        List<String> output = new ArrayList<>();
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(expression);
+        while (!pending.isEmpty()) {
+            Object next = pending.pop();
+            if (next instanceof String symbol) {
+                output.add(symbol);
+            } else if (next instanceof Expression.Constant constant) {
+                output.add(constant.value() ? "1" : "0");
+            } else if (next instanceof Expression.Variable variable) {
+                output.add(variable.name());
+            } else if (next instanceof Expression.Not not) {
+                pending.push(OP_TO_STR.get(Operation.NOT));
+                pending.push(not.operand());
+            } else if (next instanceof Expression.Binary binary) {
+                pending.push(OP_TO_STR.get(binary.operation()));
+                pending.push(binary.right());
+                pending.push(binary.left());
+            }
+        }
+        return output;
+    }
+
+    //!((x + !y) * !(x * z)) // Self // (x + y + z) * (x + y + !z) * (!x + y + z) * (!x + !y + z)
+    //(!a * !b * c) + (!a * b * !c) + (!a * b * c) + (a * b * !c)
+    //(!a * b * !c * !d) + (a * !b * !c * !d) + (a * !b * !c * d) + (a * !b * c * !d) + (a * !b * c * d) + (a * b * !c * !d) + (a * b * c * !d) + (a * b * c * d)
+}
@@ -0,0 +1,340 @@
+package dev.jackraidenph.logicevaluator.utility;
+
+import java.util.*;
+
+/**
+ * A parsed expression compiled into a hash-consed DAG. Structurally identical subterms share one node,
+ * and AND, OR and XOR children are kept in a fixed order so that {@code a * b} and {@code b * a} do too.
+ * Nodes are numbered children first, so evaluation is a single pass that fills one register per node:
+ * every distinct subterm is computed once per row, or once per 64-row word. Constants are folded while
+ * building, so they can only remain as the whole expression.
+ */
+public class ProcessingSequence {
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final long[] LANE_PATTERNS = {
+            0xAAAAAAAAAAAAAAAAL,
+            0xCCCCCCCCCCCCCCCCL,
+            0xF0F0F0F0F0F0F0F0L,
+            0xFF00FF00FF00FF00L,
+            0xFFFF0000FFFF0000L,
+            0xFFFFFFFF00000000L
+    };
+
+    private final List<String> unique;
+    /**
+     * Non-negative codes are operand indices, negative ones are {@code ~Operation.ordinal()}.
+     */
+    private final int[] codes;
+    private final int[] firsts;
+    private final int[] seconds;
+    /**
+     * The node holding the result, or {@link SequenceBuilder#FALSE} / {@link SequenceBuilder#TRUE} for a constant.
+     */
+    private final int root;
+
+    private ProcessingSequence(List<String> operands, int[] codes, int[] firsts, int[] seconds, int root) {
+        this.unique = operands;
+        this.codes = codes;
+        this.firsts = firsts;
+        this.seconds = seconds;
+        this.root = root;
+    }
+
+    public List<String> getOperands() {
+        return unique;
+    }
+
+    public int getNodeCount() {
+        return codes.length;
+    }
+
+    public boolean[] createRegisters() {
+        return new boolean[codes.length];
+    }
+
+    public long[] createWordRegisters() {
+        return new long[codes.length];
+    }
+
+    public boolean evaluate(List<Boolean> values) {
+        final int size = unique.size();
+        long assignment = 0;
+        for (int index = 0; index < Math.min(size, values.size()); index++) {
+            if (values.get(index)) {
+                assignment |= 1L << (size - 1 - index);
+            }
+        }
+        return evaluate(assignment, createRegisters());
+    }
+
+    /**
+     * Evaluates the expression for a single row. Bit {@code size - 1 - i} of {@code assignment}
+     * holds the value of the i-th sorted operand, so the row index of a truth table can be passed directly.
+     */
+    public boolean evaluate(long assignment, boolean[] registers) {
+        if (root < 0)
+            return root == SequenceBuilder.TRUE;
+        final int size = unique.size();
+        for (int node = 0; node <= root; node++) {
+            int code = codes[node];
+            if (code >= 0) {
+                registers[node] = ((assignment >>> (size - 1 - code)) & 1) != 0;
+                continue;
+            }
+            boolean first = registers[firsts[node]];
+            registers[node] = switch (OPERATIONS[~code]) {
+                case NOT -> !first;
+                case AND -> first & registers[seconds[node]];
+                case OR -> first | registers[seconds[node]];
+                case XOR -> first ^ registers[seconds[node]];
+                case IMPL -> first | !registers[seconds[node]];
+                case OPEN, CLOSE -> false;
+            };
+        }
+
+        return registers[root];
+    }
+
+    /**
+     * Evaluates 64 consecutive rows at once. Bit {@code i} of the result is the value of
+     * row {@code (wordIndex << 6) + i}; the six lowest row bits are fixed lane patterns
+     * and every higher one is constant across the word.
+     */
+    public long evaluateWord(long wordIndex, long[] registers) {
+        if (root < 0)
+            return root == SequenceBuilder.TRUE ? -1L : 0L;
+        final int size = unique.size();
+        final long firstRow = wordIndex << 6;
+        for (int node = 0; node <= root; node++) {
+            int code = codes[node];
+            if (code >= 0) {
+                int shift = size - 1 - code;
+                registers[node] = shift < LANE_PATTERNS.length
+                        ? LANE_PATTERNS[shift]
+                        : -((firstRow >>> shift) & 1);
+                continue;
+            }
+            long first = registers[firsts[node]];
+            registers[node] = switch (OPERATIONS[~code]) {
+                case NOT -> ~first;
+                case AND -> first & registers[seconds[node]];
+                case OR -> first | registers[seconds[node]];
+                case XOR -> first ^ registers[seconds[node]];
+                case IMPL -> first | ~registers[seconds[node]];
+                case OPEN, CLOSE -> 0L;
+            };
+        }
+
+        return registers[root];
+    }
+
+    /**
+     * Evaluates the DAG over an arbitrary value domain, calling the folder once per distinct subterm.
+     * Nodes are visited children first in order of first appearance, so {@link Folder#operand(int)}
+     * also sees operands in the order they appear in the expression.
+     */
+    public <T> T fold(Folder<T> folder) {
+        if (root < 0)
+            return folder.constant(root == SequenceBuilder.TRUE);
+        List<T> values = new ArrayList<>(codes.length);
+        for (int node = 0; node <= root; node++) {
+            int code = codes[node];
+            if (code >= 0) {
+                values.add(folder.operand(code));
+                continue;
+            }
+            Operation operation = OPERATIONS[~code];
+            T first = values.get(firsts[node]);
+            T second = operation.isUnary() ? null : values.get(seconds[node]);
+            values.add(folder.apply(operation, first, second));
+        }
+
+        return values.get(root);
+    }
+
+    /**
+     * Interprets one subterm: {@code second} is {@code null} for unary operations,
+     * and operands are passed in the same order as to {@link Operation#applyWord(long, long)}.
+     */
+    public interface Folder<T> {
+        T operand(int index);
+
+        /**
+         * Only called when the whole expression is constant.
+         */
+        default T constant(boolean value) {
+            return null;
+        }
+
+        T apply(Operation operation, T first, T second);
+    }
+
+    public static ProcessingSequence fromString(String expression) {
+        if (expression.isBlank())
+            return new ProcessingSequence(List.of(), new int[0], new int[0], new int[0], SequenceBuilder.FALSE);
+        return fromExpression(Parser.parse(expression));
+    }
+
+    /**
+     * Builds the DAG in post-order with explicit stacks, so deep trees don't overflow the call stack.
+     */
+    public static ProcessingSequence fromExpression(Expression expression) {
+        List<String> operands = collectOperands(expression);
+        Map<String, Integer> indices = new HashMap<>();
+        for (int index = 0; index < operands.size(); index++) {
+            indices.put(operands.get(index), index);
+        }
+
+        SequenceBuilder builder = new SequenceBuilder(false);
+        Deque<Object> pending = new ArrayDeque<>();
+        Deque<Integer> nodes = new ArrayDeque<>();
+        pending.push(expression);
+        while (!pending.isEmpty()) {
+            Object next = pending.pop();
+            if (next instanceof Expression.Constant constant) {
+                nodes.push(SequenceBuilder.constant(constant.value()));
+            } else if (next instanceof Expression.Variable variable) {
+                nodes.push(builder.operand(indices.get(variable.name())));
+            } else if (next instanceof Expression.Not not) {
+                pending.push(Operation.NOT);
+                pending.push(not.operand());
+            } else if (next instanceof Expression.Binary binary) {
+                pending.push(binary.operation());
+                pending.push(binary.right());
+                pending.push(binary.left());
+            } else if (next instanceof Operation operation) {
+                int first = nodes.pop();
+                int second = operation.isUnary() ? SequenceBuilder.NONE : nodes.pop();
+                nodes.push(builder.apply(operation, first, second));
+            }
+        }
+
+        return build(operands, builder, nodes.pop());
+    }
+
+    private static ProcessingSequence build(List<String> operands, SequenceBuilder builder, int root) {
+        return new ProcessingSequence(operands, builder.codes(), builder.firsts(), builder.seconds(), root);
+    }
+
+    /**
+     * Rewrites the DAG with Boolean identities until it stops shrinking: double negation, idempotence,
+     * complements, absorption, constant propagation and the implication identities. Only nodes the result
+     * still depends on are kept. Operands are kept as well unless {@code dropUnusedOperands} is set,
+     * in which case the operand list shrinks to the ones the result reads.
+     */
+    public ProcessingSequence simplified(boolean dropUnusedOperands) {
+        ProcessingSequence current = this;
+        while (true) {
+            ProcessingSequence next = current.rebuild(true, false);
+            next = next.rebuild(false, false);
+            if (next.codes.length >= current.codes.length)
+                break;
+            current = next;
+        }
+        return dropUnusedOperands ? current.rebuild(false, true) : current;
+    }
+
+    /**
+     * Copies the nodes the root depends on into a fresh builder, optionally rewriting them on the way.
+     */
+    private ProcessingSequence rebuild(boolean rewrite, boolean dropUnusedOperands) {
+        boolean[] reachable = new boolean[codes.length];
+        if (root >= 0) {
+            reachable[root] = true;
+        }
+        boolean[] used = new boolean[unique.size()];
+        for (int node = codes.length - 1; node >= 0; node--) {
+            if (!reachable[node])
+                continue;
+            if (codes[node] >= 0) {
+                used[codes[node]] = true;
+                continue;
+            }
+            reachable[firsts[node]] = true;
+            if (seconds[node] >= 0) {
+                reachable[seconds[node]] = true;
+            }
+        }
+
+        List<String> operands = unique;
+        int[] indices = new int[unique.size()];
+        for (int index = 0; index < indices.length; index++) {
+            indices[index] = index;
+        }
+        if (dropUnusedOperands) {
+            operands = new ArrayList<>();
+            for (int index = 0; index < indices.length; index++) {
+                if (used[index]) {
+                    indices[index] = operands.size();
+                    operands.add(unique.get(index));
+                }
+            }
+            operands = List.copyOf(operands);
+        }
+
+        SequenceBuilder builder = new SequenceBuilder(rewrite);
+        int[] mapped = new int[codes.length];
+        for (int node = 0; node < codes.length; node++) {
+            if (!reachable[node])
+                continue;
+            int code = codes[node];
+            mapped[node] = code >= 0
+                    ? builder.operand(indices[code])
+                    : builder.apply(OPERATIONS[~code], mapped[firsts[node]],
+                    seconds[node] >= 0 ? mapped[seconds[node]] : SequenceBuilder.NONE);
+        }
+        return build(operands, builder, root >= 0 ? mapped[root] : root);
+    }
+
+    /**
+     * Renders the DAG as a fully parenthesized expression that parses back to the same function.
+     * Shared subterms are written out at every use.
+     */
+    public String toExpression() {
+        if (root < 0)
+            return root == SequenceBuilder.TRUE ? "1" : "0";
+        StringBuilder result = new StringBuilder();
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Object next = pending.pop();
+            if (next instanceof String text) {
+                result.append(text);
+                continue;
+            }
+            int node = (Integer) next;
+            int code = codes[node];
+            if (code >= 0) {
+                result.append(unique.get(code));
+            } else if (OPERATIONS[~code] == Operation.NOT) {
+                result.append('!');
+                pending.push(firsts[node]);
+            } else {
+                pending.push(")");
+                pending.push(firsts[node]);
+                pending.push(" " + ParsingUtils.OP_TO_STR.get(OPERATIONS[~code]) + " ");
+                pending.push(seconds[node]);
+                result.append('(');
+            }
+        }
+        return result.toString();
+    }
+
+    private static List<String> collectOperands(Expression expression) {
+        Set<String> names = new HashSet<>();
+        Deque<Expression> pending = new ArrayDeque<>();
+        pending.push(expression);
+        while (!pending.isEmpty()) {
+            Expression next = pending.pop();
+            if (next instanceof Expression.Variable variable) {
+                names.add(variable.name());
+            } else if (next instanceof Expression.Not not) {
+                pending.push(not.operand());
+            } else if (next instanceof Expression.Binary binary) {
+                pending.push(binary.left());
+                pending.push(binary.right());
+            }
+        }
+        return names.stream().sorted().toList();
+    }
+}
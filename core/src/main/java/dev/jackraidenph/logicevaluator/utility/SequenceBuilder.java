@@ -0,0 +1,195 @@
+package dev.jackraidenph.logicevaluator.utility;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interns DAG nodes for {@link ProcessingSequence}. Constants are never stored: they are the sentinel ids
+ * {@link #FALSE} and {@link #TRUE} and are folded into their parents as soon as they appear. When {@code rewrite}
+ * is set every node also passes through the Boolean identities below before it is interned, so a node is built
+ * only if none of them applies to it.
+ */
+class SequenceBuilder {
+    static final int NONE = -1;
+    static final int FALSE = -2;
+    static final int TRUE = -3;
+
+    private static final int NOT = ~Operation.NOT.ordinal();
+    private static final int AND = ~Operation.AND.ordinal();
+    private static final int OR = ~Operation.OR.ordinal();
+    private static final int XOR = ~Operation.XOR.ordinal();
+    private static final int IMPL = ~Operation.IMPL.ordinal();
+
+    private final boolean rewrite;
+    private final Map<Node, Integer> interned = new HashMap<>();
+    private int[] codes = new int[16];
+    private int[] firsts = new int[16];
+    private int[] seconds = new int[16];
+    private int count;
+
+    private record Node(int code, int first, int second) {
+    }
+
+    SequenceBuilder(boolean rewrite) {
+        this.rewrite = rewrite;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int[] codes() {
+        return Arrays.copyOf(codes, count);
+    }
+
+    int[] firsts() {
+        return Arrays.copyOf(firsts, count);
+    }
+
+    int[] seconds() {
+        return Arrays.copyOf(seconds, count);
+    }
+
+    static int constant(boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    int operand(int index) {
+        return intern(index, NONE, NONE);
+    }
+
+    /**
+     * Builds {@code operation} with the same operand order as {@link Operation#applyWord(long, long)}:
+     * for implication {@code first} is the consequent and {@code second} the premise.
+     */
+    int apply(Operation operation, int first, int second) {
+        return switch (operation) {
+            case NOT -> not(first);
+            case AND -> and(first, second);
+            case OR -> or(first, second);
+            case XOR -> xor(first, second);
+            case IMPL -> implies(second, first);
+            case OPEN, CLOSE -> FALSE;
+        };
+    }
+
+    private int not(int node) {
+        if (node == FALSE || node == TRUE)
+            return node == FALSE ? TRUE : FALSE;
+        if (rewrite && is(node, NOT))
+            return firsts[node];
+        return intern(NOT, node, NONE);
+    }
+
+    private int and(int first, int second) {
+        if (first == FALSE || second == FALSE)
+            return FALSE;
+        if (first == TRUE)
+            return second;
+        if (second == TRUE)
+            return first;
+        if (rewrite) {
+            if (first == second)
+                return first;
+            if (complements(first, second))
+                return FALSE;
+            if (hasChild(second, OR, first) || hasChild(second, AND, first))
+                return hasChild(second, OR, first) ? first : second;
+            if (hasChild(first, OR, second) || hasChild(first, AND, second))
+                return hasChild(first, OR, second) ? second : first;
+        }
+        return intern(AND, first, second);
+    }
+
+    private int or(int first, int second) {
+        if (first == TRUE || second == TRUE)
+            return TRUE;
+        if (first == FALSE)
+            return second;
+        if (second == FALSE)
+            return first;
+        if (rewrite) {
+            if (first == second)
+                return first;
+            if (complements(first, second))
+                return TRUE;
+            if (hasChild(second, AND, first) || hasChild(second, OR, first))
+                return hasChild(second, AND, first) ? first : second;
+            if (hasChild(first, AND, second) || hasChild(first, OR, second))
+                return hasChild(first, AND, second) ? second : first;
+        }
+        return intern(OR, first, second);
+    }
+
+    private int xor(int first, int second) {
+        if (first == FALSE)
+            return second;
+        if (second == FALSE)
+            return first;
+        if (first == TRUE)
+            return not(second);
+        if (second == TRUE)
+            return not(first);
+        if (rewrite) {
+            if (first == second)
+                return FALSE;
+            if (complements(first, second))
+                return TRUE;
+        }
+        return intern(XOR, first, second);
+    }
+
+    private int implies(int premise, int consequence) {
+        if (premise == FALSE || consequence == TRUE)
+            return TRUE;
+        if (premise == TRUE)
+            return consequence;
+        if (consequence == FALSE)
+            return not(premise);
+        if (rewrite) {
+            if (premise == consequence)
+                return TRUE;
+            if (complements(premise, consequence))
+                return consequence;
+            if (is(consequence, IMPL) && (seconds[consequence] == premise || firsts[consequence] == premise))
+                return seconds[consequence] == premise ? consequence : TRUE;
+        }
+        return intern(IMPL, consequence, premise);
+    }
+
+    private boolean is(int node, int code) {
+        return node >= 0 && codes[node] == code;
+    }
+
+    private boolean complements(int first, int second) {
+        return (is(first, NOT) && firsts[first] == second) || (is(second, NOT) && firsts[second] == first);
+    }
+
+    private boolean hasChild(int node, int code, int child) {
+        return is(node, code) && (firsts[node] == child || seconds[node] == child);
+    }
+
+    private int intern(int code, int first, int second) {
+        if ((code == AND || code == OR || code == XOR) && first < second) {
+            int swap = first;
+            first = second;
+            second = swap;
+        }
+        Node node = new Node(code, first, second);
+        Integer known = interned.get(node);
+        if (known != null)
+            return known;
+
+        if (count == codes.length) {
+            codes = Arrays.copyOf(codes, count * 2);
+            firsts = Arrays.copyOf(firsts, count * 2);
+            seconds = Arrays.copyOf(seconds, count * 2);
+        }
+        codes[count] = code;
+        firsts[count] = first;
+        seconds[count] = second;
+        interned.put(node, count);
+        return count++;
+    }
+}
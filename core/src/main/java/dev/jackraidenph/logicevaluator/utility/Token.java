@@ -0,0 +1,21 @@
+package dev.jackraidenph.logicevaluator.utility;
+
+/**
+ * A lexical token and the offset of its first character. {@code operation} is set for operators and parentheses only.
+ */
+public record Token(Kind kind, Operation operation, String text, int position) {
+    public enum Kind {
+        IDENTIFIER,
+        CONSTANT,
+        OPERATOR,
+        END
+    }
+
+    public boolean is(Operation expected) {
+        return kind == Kind.OPERATOR && operation == expected;
+    }
+
+    public String describe() {
+        return kind == Kind.END ? "end of input" : "'" + text + "'";
+    }
+}
@@ -0,0 +1,5 @@
+module dev.jackraidenph.logicevaluator.core {
+    exports dev.jackraidenph.logicevaluator.logic;
+    exports dev.jackraidenph.logicevaluator.utility;
+    exports dev.jackraidenph.logicevaluator.cli;
+}
@@ -0,0 +1,68 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BDDTest {
+
+    @Test
+    void constants() {
+        BDD bdd = new BDD();
+
+        assertEquals(BDD.FALSE, bdd.build("a * !a"));
+        assertEquals(BDD.TRUE, bdd.build("a + !a"));
+        assertEquals(BigInteger.TWO, bdd.satCount(BDD.TRUE));
+        assertTrue(bdd.satisfyingAssignment(BDD.FALSE).isEmpty());
+    }
+
+    @Test
+    void equalFunctionsShareANode() {
+        BDD bdd = new BDD();
+
+        assertEquals(bdd.build("!(a * b)"), bdd.build("!a + !b"));
+        assertEquals(bdd.build("a -> b"), bdd.build("!a + b"));
+        assertNotEquals(bdd.build("a -> b"), bdd.build("b -> a"));
+    }
+
+    @Test
+    void parityIsLinear() {
+        BDD bdd = new BDD();
+        int node = bdd.build("a ^ b ^ c ^ d");
+
+        assertEquals(7, bdd.size(node));
+        assertEquals(BigInteger.valueOf(8), bdd.satCount(node));
+    }
+
+    @Test
+    void orderDecidesSize() {
+        String expression = "a * d + b * e + c * f";
+
+        assertEquals(List.of("a", "d", "b", "e", "c", "f"), BDD.appearanceOrder(expression));
+        BDD interleaved = new BDD(BDD.appearanceOrder(expression));
+        BDD separated = new BDD(List.of("a", "b", "c", "d", "e", "f"));
+        assertEquals(6, interleaved.size(interleaved.build(expression)));
+        assertEquals(14, separated.size(separated.build(expression)));
+    }
+
+    @Test
+    void diagramMatchesTable() {
+        Random random = new Random(10);
+        for (int trial = 0; trial < 300; trial++) {
+            String expression = RandomExpressions.next(random, 1 + random.nextInt(8), 1 + random.nextInt(6));
+            TruthTable table = new TruthTable(expression);
+            BDD bdd = new BDD();
+            int node = bdd.build(expression);
+
+            assertArrayEquals(table.minterms(true).toArray(), bdd.toTruthTable(node).minterms(true).toArray(),
+                    expression);
+            assertEquals(BigInteger.valueOf(table.minterms(true).count()), bdd.satCount(node), expression);
+            bdd.satisfyingAssignment(node).ifPresent(assignment -> assertTrue(
+                    table.getOutput(RandomExpressions.row(table.getOperands(), assignment)), expression));
+        }
+    }
+}
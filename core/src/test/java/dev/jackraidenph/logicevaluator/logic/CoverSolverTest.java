@@ -0,0 +1,100 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoverSolverTest {
+    private static final long TERM_COST = 1L << 16;
+
+    @Test
+    void solvesCyclicChart() {
+        // Six primes, none of them essential: every minterm is covered by exactly two.
+        long[] minterms = {0, 1, 2, 5, 6, 7};
+        List<Cube> primes = PrimeGenerator.generate(minterms, 3);
+        assertEquals(6, primes.size());
+
+        List<Cube> cover = CoverSolver.solve(minterms, primes, 3, CoverSolver.DEFAULT_BUDGET);
+
+        assertTrue(covers(cover, minterms));
+        assertEquals(3, cover.size());
+        assertEquals(6, cover.stream().mapToInt(cube -> cube.literalCount(3)).sum());
+    }
+
+    @Test
+    void coversOnlyTheOnSetOfAPartialTable() {
+        // Rows 5 and 7 are don't-cares: they make c a prime, and c alone covers rows 1 and 3.
+        long[] onSet = {1, 3};
+        List<Cube> primes = PrimeGenerator.generate(new long[]{1, 3, 5, 7}, 3);
+
+        List<Cube> cover = CoverSolver.solve(onSet, primes, 3, CoverSolver.DEFAULT_BUDGET);
+
+        assertEquals(List.of(new Cube(1, 6)), cover);
+    }
+
+    @Test
+    void constants() {
+        assertEquals(List.of(), CoverSolver.solve(new long[0], List.of(), 2, CoverSolver.DEFAULT_BUDGET));
+
+        long[] everyRow = {0, 1, 2, 3};
+        List<Cube> cover = CoverSolver.solve(everyRow, PrimeGenerator.generate(everyRow, 2), 2,
+                CoverSolver.DEFAULT_BUDGET);
+
+        assertEquals(List.of(new Cube(0, 3)), cover);
+    }
+
+    @Test
+    void returnsACoverWhenTheBudgetRunsOut() {
+        // Exclusive or has no adjacent minterms, so there are 32 primes and no chart reduction to speak of.
+        long[] minterms = LongStream.range(0, 1 << 6).filter(row -> Long.bitCount(row) % 2 == 1).toArray();
+
+        List<Cube> cover = CoverSolver.solve(minterms, PrimeGenerator.generate(minterms, 6), 6, Duration.ZERO);
+
+        assertTrue(covers(cover, minterms));
+    }
+
+    @Test
+    void matchesExhaustiveSearch() {
+        Random random = new Random(8);
+        for (int trial = 0; trial < 300; trial++) {
+            long[] minterms = LongStream.range(0, 16).filter(row -> random.nextInt(3) == 0).toArray();
+            List<Cube> primes = PrimeGenerator.generate(minterms, 4);
+            if (primes.size() > 16)
+                continue;
+
+            List<Cube> cover = CoverSolver.solve(minterms, primes, 4, CoverSolver.DEFAULT_BUDGET);
+
+            assertTrue(covers(cover, minterms));
+            assertEquals(minimumCost(minterms, primes, 4), cost(cover, 4));
+        }
+    }
+
+    private static long minimumCost(long[] minterms, List<Cube> primes, int size) {
+        long best = Long.MAX_VALUE;
+        for (int subset = 0; subset < 1 << primes.size(); subset++) {
+            int finalSubset = subset;
+            List<Cube> cover = IntStream.range(0, primes.size())
+                    .filter(index -> (finalSubset >>> index & 1) != 0)
+                    .mapToObj(primes::get)
+                    .toList();
+            if (covers(cover, minterms)) {
+                best = Math.min(best, cost(cover, size));
+            }
+        }
+        return best;
+    }
+
+    private static boolean covers(List<Cube> cover, long[] minterms) {
+        return LongStream.of(minterms).allMatch(row -> cover.stream().anyMatch(cube -> cube.covers(row)));
+    }
+
+    private static long cost(List<Cube> cover, int size) {
+        return cover.stream().mapToLong(cube -> TERM_COST + cube.literalCount(size)).sum();
+    }
+}
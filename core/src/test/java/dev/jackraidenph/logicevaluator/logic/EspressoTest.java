@@ -0,0 +1,106 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EspressoTest {
+
+    @Test
+    void leavesCyclicFunctionPrimeAndIrredundant() {
+        // No prime is essential here, so the heuristic may stop at four terms where three would do.
+        long[] minterms = {0, 1, 2, 5, 6, 7};
+        List<Cube> cover = Espresso.minimize(3, cubes(minterms), List.of());
+
+        assertCovers(cover, 3, minterms);
+        for (Cube cube : cover) {
+            assertTrue(PrimeGenerator.generate(minterms, 3).contains(cube), cube + " isn't prime");
+            List<Cube> rest = cover.stream().filter(other -> !other.equals(cube)).toList();
+            assertFalse(LongStream.of(minterms).allMatch(row -> rest.stream().anyMatch(other -> other.covers(row))),
+                    cube + " is redundant");
+        }
+    }
+
+    @Test
+    void growsIntoDontCares() {
+        List<Cube> withDontCares = Espresso.minimize(3, cubes(1, 3), cubes(5, 7));
+        List<Cube> withOffSet = Espresso.minimize(3, cubes(1, 3), List.of(), cubes(0, 2, 4, 6));
+
+        assertEquals(List.of(new Cube(1, 6)), withDontCares);
+        assertEquals(List.of(new Cube(1, 6)), withOffSet);
+    }
+
+    @Test
+    void constants() {
+        assertEquals(List.of(), Espresso.minimize(2, List.of(), List.of()));
+        assertEquals(List.of(new Cube(0, 3)), Espresso.minimize(2, cubes(0, 1, 2, 3), List.of()));
+        assertEquals(List.of(new Cube(0, 3)), Espresso.minimize(2, cubes(0), cubes(1, 2, 3)));
+    }
+
+    @Test
+    void coverMatchesTable() {
+        Random random = new Random(9);
+        for (int trial = 0; trial < 300; trial++) {
+            String expression = RandomExpressions.next(random, 1 + random.nextInt(8), 1 + random.nextInt(6));
+            TruthTable table = new TruthTable(expression);
+            List<Cube> onSet = table.minterms(true).mapToObj(Cube::ofMinterm).toList();
+
+            assertCovers(Espresso.minimize(table.getOperands().size(), onSet, List.of()),
+                    table.getOperands().size(), table.minterms(true).toArray());
+        }
+    }
+
+    @Test
+    void minimizesPartialTableOfSevenOperands() {
+        // Seven rows over seven operands leave every block from row 7 on past the last stored word.
+        List<String> operands = List.of("a", "b", "c", "d", "e", "f", "g");
+        List<List<Boolean>> contents = new ArrayList<>();
+        for (int row = 0; row < 7; row++) {
+            List<Boolean> cells = new ArrayList<>();
+            for (int operand = 6; operand >= 0; operand--) {
+                cells.add((row >>> operand & 1) != 0);
+            }
+            cells.add(row % 3 == 0);
+            contents.add(cells);
+        }
+        TruthTable table = new TruthTable(operands, contents);
+
+        List<Term> products = table.espresso(false);
+        List<Term> sums = table.espresso(true);
+
+        for (int row = 0; row < 7; row++) {
+            List<Boolean> cells = contents.get(row);
+            boolean someProduct = products.stream().anyMatch(term -> term.stream().allMatch(
+                    literal -> holds(literal, operands, cells)));
+            boolean everySum = sums.stream().allMatch(term -> term.stream().anyMatch(
+                    literal -> holds(literal, operands, cells)));
+            assertEquals(table.getOutput(row), someProduct, "FDNF at row " + row);
+            assertEquals(table.getOutput(row), everySum, "FCNF at row " + row);
+        }
+    }
+
+    private static boolean holds(String literal, List<String> operands, List<Boolean> cells) {
+        boolean negated = literal.startsWith("!");
+        return cells.get(operands.indexOf(negated ? literal.substring(1) : literal)) != negated;
+    }
+
+    private static List<Cube> cubes(long... minterms) {
+        return LongStream.of(minterms).mapToObj(Cube::ofMinterm).toList();
+    }
+
+    /**
+     * Checks that the cover holds exactly the given rows.
+     */
+    private static void assertCovers(List<Cube> cover, int size, long... minterms) {
+        for (long row = 0; row < 1L << size; row++) {
+            long finalRow = row;
+            assertEquals(LongStream.of(minterms).anyMatch(minterm -> minterm == finalRow),
+                    cover.stream().anyMatch(cube -> cube.covers(finalRow)), "row " + row + " of " + cover);
+        }
+    }
+}
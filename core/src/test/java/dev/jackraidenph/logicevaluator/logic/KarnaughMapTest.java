@@ -0,0 +1,77 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KarnaughMapTest {
+
+    @Test
+    void groupsParityCellByCell() {
+        for (int size = 5; size <= 8; size++) {
+            String expression = IntStream.range(0, size).mapToObj(operand -> String.valueOf((char) ('a' + operand)))
+                    .collect(Collectors.joining(" ^ "));
+            TruthTable table = new TruthTable(expression);
+
+            List<Cube> ones = table.getKarnaughMap().traverseKMap(true);
+
+            assertEquals(1 << (size - 1), ones.size(), expression);
+            assertGroups(table, true, ones);
+            assertGroups(table, false, table.getKarnaughMap().traverseKMap(false));
+        }
+    }
+
+    @Test
+    void groupsMatchTable() {
+        Random random = new Random(20);
+        for (int size = 5; size <= 8; size++) {
+            for (int found = 0; found < 25; ) {
+                TruthTable table = new TruthTable(RandomExpressions.next(random, size, 4 + random.nextInt(4)));
+                if (table.getOperands().size() != size)
+                    continue;
+                found++;
+
+                assertGroups(table, true, table.getKarnaughMap().traverseKMap(true));
+                assertGroups(table, false, table.getKarnaughMap().traverseKMap(false));
+            }
+        }
+    }
+
+    @Test
+    void groupsPartialTablesOfUpToEightOperands() {
+        for (int size = 5; size <= 8; size++) {
+            List<String> operands = IntStream.range(0, size).mapToObj(operand -> String.valueOf((char) ('a' + operand)))
+                    .toList();
+            List<List<Boolean>> contents = new ArrayList<>();
+            for (int row = 0; row < (1 << size) - 11; row++) {
+                List<Boolean> cells = new ArrayList<>();
+                for (int operand = size - 1; operand >= 0; operand--) {
+                    cells.add((row >>> operand & 1) != 0);
+                }
+                cells.add(row % 3 == 0 || row % 7 == 1);
+                contents.add(cells);
+            }
+            TruthTable table = new TruthTable(operands, contents);
+
+            assertGroups(table, true, table.getKarnaughMap().traverseKMap(true));
+            assertGroups(table, false, table.getKarnaughMap().traverseKMap(false));
+        }
+    }
+
+    /**
+     * Checks that the groups cover every stored row with the given output and none with the other one.
+     */
+    private static void assertGroups(TruthTable table, boolean ones, List<Cube> groups) {
+        for (long row = 0; row < table.getRowCount(); row++) {
+            long finalRow = row;
+            assertEquals(table.getOutput(row) == ones, groups.stream().anyMatch(group -> group.covers(finalRow)),
+                    "row " + row + " of " + table.getExpression());
+        }
+    }
+}
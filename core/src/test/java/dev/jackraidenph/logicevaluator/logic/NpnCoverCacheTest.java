@@ -0,0 +1,98 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NpnCoverCacheTest {
+    private static final int SIZE = 5;
+    private static final int[][] PERMUTATIONS = {{0, 1, 2, 3, 4}, {4, 3, 2, 1, 0}, {2, 0, 4, 1, 3}, {1, 4, 0, 3, 2}};
+    private static final long[] NEGATIONS = {0b00000, 0b10110, 0b01001, 0b11111};
+
+    @Test
+    void coversEveryMemberOfAClassAlike() {
+        long original = table(row -> (bit(row, 0) && bit(row, 1)) || (!bit(row, 2) && bit(row, 3))
+                || (bit(row, 4) && !bit(row, 0) && bit(row, 2)));
+        NpnCoverCache cache = new NpnCoverCache(16);
+        long representative = NpnCanonicalizer.canonicalize(original, SIZE).representative();
+
+        for (int[] permutation : PERMUTATIONS) {
+            for (long negations : NEGATIONS) {
+                for (boolean outputNegation : new boolean[]{false, true}) {
+                    long copy = transform(original, permutation, negations, outputNegation);
+                    assertEquals(representative, NpnCanonicalizer.canonicalize(copy, SIZE).representative());
+
+                    for (boolean FCNF : new boolean[]{false, true}) {
+                        List<Cube> expected = cache.quineMcCluskey(original, SIZE, FCNF != outputNegation,
+                                CoverSolver.DEFAULT_BUDGET);
+                        List<Cube> cover = cache.quineMcCluskey(copy, SIZE, FCNF, CoverSolver.DEFAULT_BUDGET);
+
+                        assertEquals(expected.size(), cover.size());
+                        assertEquals(literals(expected), literals(cover));
+                        assertCoversExactly(FCNF ? ~copy : copy, cover);
+                    }
+                }
+            }
+        }
+
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.size());
+        assertEquals(1, statistics.misses());
+    }
+
+    @Test
+    void constants() {
+        NpnCoverCache cache = new NpnCoverCache(16);
+        long everyRow = Cube.sizeMask(1 << SIZE);
+
+        assertEquals(List.of(), cache.quineMcCluskey(0, SIZE, false, CoverSolver.DEFAULT_BUDGET));
+        assertEquals(List.of(new Cube(0, Cube.sizeMask(SIZE))),
+                cache.quineMcCluskey(everyRow, SIZE, false, CoverSolver.DEFAULT_BUDGET));
+        assertEquals(List.of(), cache.quineMcCluskey(everyRow, SIZE, true, CoverSolver.DEFAULT_BUDGET));
+    }
+
+    private interface Function {
+        boolean at(long row);
+    }
+
+    private static long table(Function function) {
+        long table = 0;
+        for (long row = 0; row < 1 << SIZE; row++) {
+            if (function.at(row))
+                table |= 1L << row;
+        }
+        return table;
+    }
+
+    private static boolean bit(long row, int input) {
+        return ((row >>> input) & 1) != 0;
+    }
+
+    /**
+     * Input {@code k} of the copy reads input {@code permutation[k]} of the original, complemented when bit
+     * {@code k} of {@code negations} is set.
+     */
+    private static long transform(long table, int[] permutation, long negations, boolean outputNegation) {
+        return table(row -> {
+            long source = 0;
+            for (int input = 0; input < SIZE; input++) {
+                if (bit(row ^ negations, input))
+                    source |= 1L << permutation[input];
+            }
+            return bit(table, (int) source) != outputNegation;
+        });
+    }
+
+    private static int literals(List<Cube> cover) {
+        return cover.stream().mapToInt(cube -> cube.literalCount(SIZE)).sum();
+    }
+
+    private static void assertCoversExactly(long rows, List<Cube> cover) {
+        for (long row = 0; row < 1 << SIZE; row++) {
+            long current = row;
+            assertEquals(bit(rows, (int) row), cover.stream().anyMatch(cube -> cube.covers(current)), "row " + row);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Random expressions over operands named {@code a}, {@code b} and so on.
+ */
+final class RandomExpressions {
+    private static final String[] OPERATORS = {" * ", " + ", " ^ ", " -> "};
+
+    private RandomExpressions() {
+    }
+
+    static String next(Random random, int operands, int depth) {
+        if (depth == 0 || random.nextInt(5) == 0) {
+            String operand = String.valueOf((char) ('a' + random.nextInt(operands)));
+            return random.nextBoolean() ? "!" + operand : operand;
+        }
+        return "(" + next(random, operands, depth - 1)
+                + OPERATORS[random.nextInt(OPERATORS.length)]
+                + next(random, operands, depth - 1) + ")";
+    }
+
+    /**
+     * The table row an assignment selects; operands it leaves out are taken as false.
+     */
+    static long row(List<String> operands, Map<String, Boolean> assignment) {
+        long row = 0;
+        for (String operand : operands) {
+            row = row << 1 | (assignment.getOrDefault(operand, false) ? 1 : 0);
+        }
+        return row;
+    }
+}
@@ -0,0 +1,65 @@
+package dev.jackraidenph.logicevaluator.logic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SatSolverTest {
+
+    @Test
+    void constants() {
+        assertTrue(SatSolver.isTautology("1"));
+        assertFalse(SatSolver.isSatisfiable("0"));
+        assertFalse(SatSolver.isSatisfiable("a * !a"));
+        assertTrue(SatSolver.isTautology("a + !a"));
+        assertEquals(Optional.of(Map.of("a", false)), SatSolver.satisfyingAssignment("!a"));
+    }
+
+    @Test
+    void provesPeircesLaw() {
+        assertTrue(SatSolver.isTautology("((a -> b) -> a) -> a"));
+        assertFalse(SatSolver.isTautology("(a -> b) -> a"));
+    }
+
+    @Test
+    void refutesThreePigeonsInTwoHoles() {
+        // Pigeons a, b and c, holes x and y: each pigeon takes a hole, no hole takes two.
+        String pigeons = "(ax + ay) * (bx + by) * (cx + cy)";
+        String holes = "!(ax * bx) * !(ax * cx) * !(bx * cx) * !(ay * by) * !(ay * cy) * !(by * cy)";
+
+        assertFalse(SatSolver.isSatisfiable(pigeons + " * " + holes));
+        assertTrue(SatSolver.isSatisfiable(pigeons.replace(" * (cx + cy)", "") + " * " + holes));
+    }
+
+    @Test
+    void counterexampleSeparatesExpressions() {
+        assertTrue(SatSolver.equivalent("a -> b", "!b -> !a"));
+        assertEquals(Optional.of(Map.of("a", true, "b", true)), SatSolver.counterexample("a ^ b", "a + b"));
+    }
+
+    @Test
+    void answersMatchTable() {
+        Random random = new Random(25);
+        for (int trial = 0; trial < 500; trial++) {
+            String expression = RandomExpressions.next(random, 1 + random.nextInt(8), 1 + random.nextInt(6));
+            String other = RandomExpressions.next(random, 1 + random.nextInt(8), 1 + random.nextInt(6));
+            TruthTable table = new TruthTable(expression);
+            TruthTable difference = new TruthTable("(" + expression + ") ^ (" + other + ")");
+
+            assertEquals(table.minterms(true).findAny().isPresent(), SatSolver.isSatisfiable(expression), expression);
+            assertEquals(table.minterms(false).findAny().isEmpty(), SatSolver.isTautology(expression), expression);
+            SatSolver.satisfyingAssignment(expression).ifPresent(assignment -> assertTrue(
+                    table.getOutput(RandomExpressions.row(table.getOperands(), assignment)), expression));
+            SatSolver.falsifyingAssignment(expression).ifPresent(assignment -> assertFalse(
+                    table.getOutput(RandomExpressions.row(table.getOperands(), assignment)), expression));
+            SatSolver.counterexample(expression, other).ifPresentOrElse(
+                    assignment -> assertTrue(
+                            difference.getOutput(RandomExpressions.row(difference.getOperands(), assignment))),
+                    () -> assertTrue(difference.minterms(true).findAny().isEmpty(), expression + " and " + other));
+        }
+    }
+}
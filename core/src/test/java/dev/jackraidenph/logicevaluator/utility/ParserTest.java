@@ -0,0 +1,75 @@
+package dev.jackraidenph.logicevaluator.utility;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParserTest {
+
+    /**
+     * {@code a x b y c} for every ordered pair of binary operators. Equal precedence groups to the right,
+     * as the shunting-yard parser did, so OR and XOR, which share a level, group to the right when mixed.
+     */
+    private static final Map<String, String> PAIRS = Map.ofEntries(
+            Map.entry("a * b * c", "(a * (b * c))"),
+            Map.entry("a * b + c", "((a * b) + c)"),
+            Map.entry("a * b ^ c", "((a * b) ^ c)"),
+            Map.entry("a * b -> c", "((a * b) -> c)"),
+            Map.entry("a + b * c", "(a + (b * c))"),
+            Map.entry("a + b + c", "(a + (b + c))"),
+            Map.entry("a + b ^ c", "(a + (b ^ c))"),
+            Map.entry("a + b -> c", "((a + b) -> c)"),
+            Map.entry("a ^ b * c", "(a ^ (b * c))"),
+            Map.entry("a ^ b + c", "(a ^ (b + c))"),
+            Map.entry("a ^ b ^ c", "(a ^ (b ^ c))"),
+            Map.entry("a ^ b -> c", "((a ^ b) -> c)"),
+            Map.entry("a -> b * c", "(a -> (b * c))"),
+            Map.entry("a -> b + c", "(a -> (b + c))"),
+            Map.entry("a -> b ^ c", "(a -> (b ^ c))"),
+            Map.entry("a -> b -> c", "(a -> (b -> c))")
+    );
+
+    @Test
+    void groupsEveryPairOfOperators() {
+        PAIRS.forEach((input, grouping) -> assertEquals(grouping, render(Parser.parse(input)), input));
+    }
+
+    @Test
+    void negationBindsTightest() {
+        assertEquals("(!a * b)", render(Parser.parse("!a * b")));
+        assertEquals("(a -> !b)", render(Parser.parse("a -> !b")));
+        assertEquals("(!(a + b) ^ !!c)", render(Parser.parse("!(a + b) ^ !!c")));
+    }
+
+    @Test
+    void groupsLongerChainsByLevel() {
+        assertEquals("(((a * b) + ((c * d) ^ e)) -> f)", render(Parser.parse("a * b + c * d ^ e -> f")));
+        assertEquals("(a -> (b -> ((c + d) -> e)))", render(Parser.parse("a -> b -> c + d -> e")));
+    }
+
+    @Test
+    void parenthesesOverrideGrouping() {
+        assertEquals("((a ^ b) + c)", render(Parser.parse("(a ^ b) + c")));
+        assertEquals("((a -> b) -> c)", render(Parser.parse("(a -> b) -> c")));
+    }
+
+    @Test
+    void rejectsDeepNesting() {
+        String nested = "(".repeat(Parser.MAX_DEPTH + 1) + "a" + ")".repeat(Parser.MAX_DEPTH + 1);
+
+        assertThrows(ParseException.class, () -> Parser.parse(nested));
+        assertEquals("a", render(Parser.parse("(".repeat(100) + "a" + ")".repeat(100))));
+    }
+
+    private static String render(Expression expression) {
+        return switch (expression) {
+            case Expression.Constant constant -> constant.value() ? "1" : "0";
+            case Expression.Variable variable -> variable.name();
+            case Expression.Not not -> "!" + render(not.operand());
+            case Expression.Binary binary -> "(" + render(binary.left()) + " "
+                    + ParsingUtils.OP_TO_STR.get(binary.operation()) + " " + render(binary.right()) + ")";
+        };
+    }
+}
@@ -0,0 +1,269 @@
+package dev.jackraidenph.logicevaluator;
+
+import dev.jackraidenph.logicevaluator.logic.Presets;
+import dev.jackraidenph.logicevaluator.logic.TruthTable;
+import dev.jackraidenph.logicevaluator.logic.TruthTableCache;
+import dev.jackraidenph.logicevaluator.utility.ParseException;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.concurrent.Task;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.fxml.Initializable;
+import javafx.geometry.Pos;
+import javafx.scene.control.*;
+import javafx.scene.layout.Background;
+import javafx.scene.paint.Color;
+
+import java.net.URL;
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+public class Controller implements Initializable {
+
+    @FXML
+    private Button evaluateButton;
+
+    @FXML
+    private Label indexRes;
+
+    @FXML
+    private Label numericPCNFRes;
+
+    @FXML
+    private Label numericPDNFRes;
+
+    @FXML
+    private Label pcnfRes;
+
+    @FXML
+    private Label pdnfRes;
+
+    @FXML
+    private Label scnfRes;
+
+    @FXML
+    private Label sdnfRes;
+
+    @FXML
+    private Label cfcnfRes;
+
+    @FXML
+    private Label cfdnfRes;
+
+    @FXML
+    private Label qmccfcnfRes;
+
+    @FXML
+    private Label qmccfdnfRes;
+
+    @FXML
+    private Label kmapFDNFRes;
+
+    @FXML
+    private Label kmapFCNFRes;
+
+    @FXML
+    private ChoiceBox<String> presetDroplist;
+
+    @FXML
+    private TableView<List<Boolean>> truthTableView;
+
+    @FXML
+    private TextField inputField;
+
+    @FXML
+    private ProgressIndicator progressIndicator;
+
+    /**
+     * Tasks of the evaluation on screen that haven't finished. They all get cancelled as soon as the input changes,
+     * which interrupts their threads and stops the reductions at their next cancellation check.
+     */
+    private final List<Task<?>> running = new ArrayList<>();
+
+    public Controller() {
+    }
+
+    @FXML
+    void onEvaluate(ActionEvent event) {
+        if (inputField.getText().isEmpty())
+            return;
+
+        cancelEvaluation();
+        String expression = inputField.getText();
+        submit(() -> TABLES.get(expression), truthTable -> {
+            List<String> names = new ArrayList<>(truthTable.getOperands());
+            names.add(expression);
+            setColumns(truthTable, names);
+            setOutputs(truthTable);
+        }, failure -> {
+            if (failure instanceof ParseException exception) {
+                inputField.positionCaret(exception.getPosition());
+            }
+            new Alert(Alert.AlertType.ERROR, failure.getMessage()).show();
+        });
+    }
+
+    private static final TruthTableCache TABLES = new TruthTableCache(64);
+
+    private static final ExecutorService EVALUATION = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static final Map<String, TruthTable> PRESETS = new LinkedHashMap<>() {{
+        for (String name : Presets.names()) {
+            put(name, Presets.create(name));
+        }
+    }};
+
+    private void setColumns(TruthTable truthTable, List<String> names) {
+        int truthTableWidth = truthTable.getWidth();
+
+        for (int columnId = 0; columnId < truthTableWidth; columnId++) {
+            String name = names.get(columnId);
+            TableColumn<List<Boolean>, Boolean> column = new TableColumn<>(name);
+            column.setSortable(false);
+            int finalCID = columnId;
+            column.setCellValueFactory(data -> data.getValue().get(finalCID) ? ONE : ZERO);
+            column.prefWidthProperty().bind(truthTableView.widthProperty().divide(truthTableWidth).subtract(4));
+            column.setCellFactory(cell -> new TruthCell());
+            truthTableView.getColumns().add(column);
+        }
+
+        truthTableView.setItems(new TruthTableRows(truthTable));
+    }
+
+    /**
+     * Computes every form on its own thread, so each label fills in as soon as its form is ready
+     * and a slow minimization never holds back the cheap forms.
+     */
+    private void setOutputs(TruthTable truthTable) {
+        fill(pdnfRes, "PDNF: ", truthTable::getPDNF);
+        fill(pcnfRes, "PCNF: ", truthTable::getPCNF);
+        fill(numericPDNFRes, "Numeric PDNF: ", truthTable::getNumericPDNF);
+        fill(numericPCNFRes, "Numeric PCNF: ", truthTable::getNumericPCNF);
+        fill(indexRes, "Index form: ", truthTable::getIndexForm);
+        fill(sdnfRes, "SDNF form: ", truthTable::getSDNF);
+        fill(scnfRes, "SCNF form: ", truthTable::getSCNF);
+        fill(cfdnfRes, "Calculated FDNF form: ", truthTable::getCalculativeFDNF);
+        fill(cfcnfRes, "Calculated FCNF form: ", truthTable::getCalculativeFCNF);
+        fill(qmccfdnfRes, "Quine-McCluskey FDNF form: ", truthTable::getQuineMcCluskeyFDNF);
+        fill(qmccfcnfRes, "Quine-McCluskey FCNF form: ", truthTable::getQuineMcCluskeyFCNF);
+        fill(kmapFDNFRes, "Karnaugh Map FDNF: ", () -> truthTable.getKarnaughMap().getKMapFDNF());
+        fill(kmapFCNFRes, "Karnaugh Map FCNF: ", () -> truthTable.getKarnaughMap().getKMapFCNF());
+    }
+
+    private void fill(Label label, String title, Callable<String> form) {
+        label.setText(title + "...");
+        submit(form, text -> label.setText(title + text), failure -> label.setText(title + failure.getMessage()));
+    }
+
+    /**
+     * Runs {@code work} in the background and hands its result, or what it failed with, to the FX thread,
+     * unless the evaluation it belongs to has been cancelled by then. A cancellation is never shown as a failure:
+     * it only means the input changed while the work was running.
+     */
+    private <T> void submit(Callable<T> work, Consumer<T> onResult, Consumer<Throwable> onFailure) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+        task.setOnSucceeded(event -> {
+            finished(task);
+            onResult.accept(task.getValue());
+        });
+        task.setOnFailed(event -> {
+            finished(task);
+            if (!(task.getException() instanceof CancellationException)) {
+                onFailure.accept(task.getException());
+            }
+        });
+        running.add(task);
+        progressIndicator.setVisible(true);
+        EVALUATION.execute(task);
+    }
+
+    private void finished(Task<?> task) {
+        running.remove(task);
+        progressIndicator.setVisible(!running.isEmpty());
+    }
+
+    private void cancelEvaluation() {
+        for (Task<?> task : running) {
+            task.cancel();
+        }
+        running.clear();
+        progressIndicator.setVisible(false);
+
+        truthTableView.setItems(FXCollections.emptyObservableList());
+        truthTableView.getColumns().clear();
+        for (Label label : List.of(pdnfRes, pcnfRes, numericPDNFRes, numericPCNFRes, indexRes, sdnfRes, scnfRes,
+                cfdnfRes, cfcnfRes, qmccfdnfRes, qmccfcnfRes, kmapFDNFRes, kmapFCNFRes)) {
+            label.setText("");
+        }
+    }
+
+    private static final ObservableValue<Boolean> ONE = new ReadOnlyObjectWrapper<>(true).getReadOnlyProperty();
+    private static final ObservableValue<Boolean> ZERO = new ReadOnlyObjectWrapper<>(false).getReadOnlyProperty();
+    private static final Background ONE_BACKGROUND = Background.fill(Color.GREEN);
+    private static final Background ZERO_BACKGROUND = Background.fill(Color.RED);
+
+    /**
+     * A cell that only swaps in one of two shared texts and backgrounds when it's reused for another row,
+     * so scrolling allocates nothing per cell.
+     */
+    private static class TruthCell extends TableCell<List<Boolean>, Boolean> {
+        private TruthCell() {
+            setAlignment(Pos.CENTER);
+        }
+
+        @Override
+        protected void updateItem(Boolean item, boolean empty) {
+            super.updateItem(item, empty);
+            if (empty || item == null) {
+                setText(null);
+                setBackground(null);
+            } else {
+                setText(item ? "1" : "0");
+                setBackground(item ? ONE_BACKGROUND : ZERO_BACKGROUND);
+            }
+        }
+    }
+
+    @Override
+    public void initialize(URL url, ResourceBundle resourceBundle) {
+        presetDroplist.setValue("None");
+        presetDroplist.getItems().add("None");
+        presetDroplist.getItems().addAll(PRESETS.keySet());
+        presetDroplist.setOnAction(this::onPresetChoice);
+        inputField.textProperty().addListener((observable, previous, current) -> cancelEvaluation());
+    }
+
+    @FXML
+    private void onPresetChoice(ActionEvent event) {
+        String choice = presetDroplist.getValue();
+        if (PRESETS.containsKey(choice)) {
+            evaluateButton.setDisable(true);
+            inputField.setDisable(true);
+
+            TruthTable truthTable = PRESETS.get(choice);
+            inputField.setText(truthTable.getExpression());
+            cancelEvaluation();
+
+            List<String> names = new ArrayList<>(truthTable.getOperands());
+            names.add(choice);
+            setColumns(truthTable, names);
+            setOutputs(truthTable);
+        } else {
+            evaluateButton.setDisable(false);
+            inputField.setDisable(false);
+            inputField.setText("");
+            cancelEvaluation();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package dev.jackraidenph.logicevaluator;
+
+import dev.jackraidenph.logicevaluator.logic.TruthTable;
+import javafx.collections.ObservableListBase;
+
+import java.util.List;
+
+/**
+ * The rows of a truth table as table view items. Nothing is copied: a row is a view over the packed table that
+ * is made when the table view asks for its index, so only the rows on screen ever exist.
+ */
+final class TruthTableRows extends ObservableListBase<List<Boolean>> {
+    private final TruthTable table;
+    private final int size;
+
+    TruthTableRows(TruthTable table) {
+        this.table = table;
+        this.size = (int) Math.min(table.getRowCount(), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Boolean> get(int index) {
+        return table.getRow(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
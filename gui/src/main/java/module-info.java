@@ -1,9 +1,10 @@
 module dev.jackraidenph.logicevaluator {
-    requires javafx.controls;
-    requires javafx.fxml;
+    requires dev.jackraidenph.logicevaluator.core;
+    requires transitive javafx.controls;
+    requires transitive javafx.fxml;
 
     requires org.controlsfx.controls;
 
     opens dev.jackraidenph.logicevaluator to javafx.fxml;
     exports dev.jackraidenph.logicevaluator;
-}
\ No newline at end of file
+}